@@ -0,0 +1,109 @@
+// 로그인 부하 테스트(k6) - 플랫폼 스레드와 가상 스레드(virtual 프로필) 모드의 지연 시간/최대 동시 로그인 비교
+//
+// 실행
+//   1) 플랫폼 스레드: ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+//      가상 스레드  : ./gradlew bootRun --args='--spring.profiles.active=virtual,loadtest' [-PtracePinnedThreads]
+//      (loadtest 프로필: 로그인 시도 제한을 사실상 끔. 없으면 한 IP에서 보내는 요청이 곧바로 429로 거절됨)
+//   2) k6 run -e MODE=platform load-test/login-load.js   (가상 스레드 측정 시 MODE=virtual)
+//   3) load-test/results/<MODE>.json 두 파일의 p50/p99, 성공 로그인 최대 동시 수(login_concurrent max)를 비교
+//   429(로그인 시도 제한)가 나오면 측정이 무의미하므로 즉시 중단합니다.
+//
+// 환경 변수
+//   BASE_URL   대상 서버(기본 http://localhost:9876)
+//   USERS      setup에서 준비할 로그인 계정 수(기본 200, 이미 있으면 건너뜀)
+//   MAX_RATE   초당 로그인 시도 최대치(기본 400)
+//   STAGE      단계별 유지 시간(기본 30s)
+import http from 'k6/http';
+import {check} from 'k6';
+import {Counter, Rate, Trend} from 'k6/metrics';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9876';
+const MODE = __ENV.MODE || 'platform';
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const MAX_RATE = parseInt(__ENV.MAX_RATE || '400', 10);
+const STAGE = __ENV.STAGE || '30s';
+const PASSWORD = 'password123!';
+
+const loginDuration = new Trend('login_duration', true);
+const loginConcurrent = new Trend('login_concurrent');
+const loginSucceeded = new Counter('login_succeeded');
+const loginRejected = new Rate('login_rejected'); // 503(해시 풀/커넥션 풀 포화)
+const loginThrottled = new Rate('login_throttled'); // 429(로그인 시도 제한 - loadtest 프로필 누락)
+
+export const options = {
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(99)', 'max'],
+    scenarios: {
+        login: {
+            executor: 'ramping-arrival-rate',
+            startRate: Math.max(Math.floor(MAX_RATE / 8), 1),
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 5000,
+            stages: [
+                {target: Math.floor(MAX_RATE / 4), duration: STAGE},
+                {target: Math.floor(MAX_RATE / 2), duration: STAGE},
+                {target: MAX_RATE, duration: STAGE},
+                {target: MAX_RATE, duration: STAGE},
+            ],
+        },
+    },
+    thresholds: {
+        login_rejected: ['rate<0.01'],
+        login_throttled: [{threshold: 'rate==0', abortOnFail: true}],
+        'login_duration{status:302}': ['p(99)<2000'],
+    },
+};
+
+function userId(index) {
+    return `load${String(index).padStart(5, '0')}`;
+}
+
+export function setup() {
+    for (let i = 0; i < USERS; i++) {
+        http.post(`${BASE_URL}/member/register`, {
+            userId: userId(i),
+            password: PASSWORD,
+            confirmPassword: PASSWORD,
+            userName: '부하테스트',
+            phoneNumber: '01012345678',
+        }, {redirects: 0, tags: {name: 'setup'}});
+    }
+}
+
+export default function () {
+    const id = userId(exec.scenario.iterationInTest % USERS);
+    // 요청 시점에 진행 중인 반복(VU) 수 = 서버가 동시에 처리 중인 로그인 수의 상한
+    loginConcurrent.add(exec.instance.vusActive);
+
+    const res = http.post(`${BASE_URL}/member/login`, {userId: id, password: PASSWORD}, {
+        redirects: 0,
+        tags: {name: 'login'},
+        jar: new http.CookieJar(),
+    });
+    loginDuration.add(res.timings.duration, {status: String(res.status)});
+    loginRejected.add(res.status === 503);
+    loginThrottled.add(res.status === 429);
+
+    if (check(res, {'login redirected': (r) => r.status === 302})) {
+        loginSucceeded.add(1);
+    }
+}
+
+export function handleSummary(data) {
+    const pick = (name) => (data.metrics[name] ? data.metrics[name].values : {});
+    const summary = {
+        mode: MODE,
+        maxRate: MAX_RATE,
+        loginDuration: pick('login_duration'),
+        loginConcurrent: pick('login_concurrent'),
+        loginSucceeded: pick('login_succeeded'),
+        loginRejected: pick('login_rejected'),
+        loginThrottled: pick('login_throttled'),
+        httpReqFailed: pick('http_req_failed'),
+    };
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`load-test/results/${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
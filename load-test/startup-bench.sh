@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# 기동 시간 측정 - 빌드 방식별 첫 요청까지 걸린 시간(time-to-first-request)과 그 시점의 RSS 비교
+#
+# 실행(빌드 후, DB 실행 중)
+#   jar       : ./gradlew bootJar                         → load-test/startup-bench.sh jar
+#   cds       : ./gradlew cdsArchive                      → load-test/startup-bench.sh cds
+#   aot-cds   : ./gradlew clean cdsArchive -Paot          → load-test/startup-bench.sh aot-cds
+#   native    : ./gradlew nativeCompile -Pnative          → load-test/startup-bench.sh native
+#   (prod 등 프로필로 비교하려면 빌드에 -PaotProfiles=prod, 측정에 PROFILES=prod)
+#
+# 환경 변수
+#   BASE_URL   첫 요청 URL의 서버 주소(기본 http://localhost:9876)
+#   PROFILES   spring.profiles.active(기본 없음)
+#   RUNS       반복 횟수(기본 5, 중앙값을 보고)
+#
+# 결과: load-test/results/startup.csv 에 "variant,run,ttfr_ms,rss_kb"를 한 줄씩 추가합니다.
+set -euo pipefail
+
+VARIANT=${1:?"usage: $0 jar|cds|aot-cds|native"}
+BASE_URL=${BASE_URL:-http://localhost:9876}
+PROFILES=${PROFILES:-}
+RUNS=${RUNS:-5}
+FIRST_REQUEST="${BASE_URL}/member/login"
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RESULTS="$ROOT/load-test/results"
+mkdir -p "$RESULTS"
+
+PROFILE_ARGS=()
+if [[ -n "$PROFILES" ]]; then
+  PROFILE_ARGS=("-Dspring.profiles.active=$PROFILES")
+fi
+
+case "$VARIANT" in
+  jar)
+    JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+    WORKDIR="$ROOT"
+    CMD=(java "${PROFILE_ARGS[@]}" -jar "$JAR") ;;
+  cds)
+    WORKDIR="$ROOT/build/cds/application"
+    CMD=(java -XX:SharedArchiveFile=application.jsa "${PROFILE_ARGS[@]}" -jar "$(ls "$WORKDIR"/*.jar | head -1)") ;;
+  aot-cds)
+    WORKDIR="$ROOT/build/cds/application"
+    CMD=(java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true "${PROFILE_ARGS[@]}" -jar "$(ls "$WORKDIR"/*.jar | head -1)") ;;
+  native)
+    WORKDIR="$ROOT"
+    CMD=("$ROOT/build/native/nativeCompile/first-project" "${PROFILE_ARGS[@]}") ;;
+  *)
+    echo "unknown variant: $VARIANT" >&2
+    exit 1 ;;
+esac
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_kb() {
+  if [[ -r "/proc/$1/status" ]]; then
+    awk '/^VmRSS:/ {print $2}' "/proc/$1/status"
+  else
+    ps -o rss= -p "$1" | tr -d ' '
+  fi
+}
+
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  (cd "$WORKDIR" && exec "${CMD[@]}") > "$RESULTS/startup-$VARIANT.log" 2>&1 &
+  pid=$!
+
+  until curl -fs -o /dev/null "$FIRST_REQUEST"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "server exited before the first request (see $RESULTS/startup-$VARIANT.log)" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ttfr=$(( $(now_ms) - start ))
+  rss=$(rss_kb "$pid")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  echo "$VARIANT,$run,$ttfr,$rss" | tee -a "$RESULTS/startup.csv"
+done
+
+awk -F, -v v="$VARIANT" '$1 == v {print $3, $4}' "$RESULTS/startup.csv" | tail -n "$RUNS" | sort -n |
+  awk '{t[NR]=$1; r[NR]=$2} END {m=int((NR+1)/2); printf "median time-to-first-request: %d ms, RSS: %d KB\n", t[m], r[m]}'
@@ -0,0 +1,66 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FindAllUserBenchmark
+ * - findAllUser의 프로젝션 → DTO 복사 비용을 행 수별로 측정합니다(DB 조회 비용 제외).
+ * - 리포지토리는 미리 만든 프로젝션 리스트를 돌려주는 프록시로 대체합니다.
+ * - 실행: ./gradlew jmh -PjmhIncludes=FindAllUserBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FindAllUserBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private MemberService memberService;
+
+    /**
+     * 벤치마크용 프로젝션
+     */
+    private record Row(String getUserId, String getUserName, String getPhoneNumber) implements MemberSummary {
+    }
+
+    @Setup
+    public void setUp() {
+        List<MemberSummary> summaries = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            summaries.add(new Row("user" + i, "홍길동", "010-1234-" + String.format("%04d", i % 10_000)));
+        }
+
+        MemberRepository repository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllProjectedByOrderByUserIdAsc")) {
+                        return summaries;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        memberService = new MemberService(repository, null, null, null, null, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<MemberDTO> findAllUser() {
+        return memberService.findAllUser();
+    }
+}
@@ -0,0 +1,139 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.exception.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * MemberValidationBenchmark
+ * - 회원가입 요청마다 실행되는 형식 검증, 전화번호 포맷팅, 검증 실패(예외) 경로를 측정합니다.
+ * - regex* 는 이전 정규식 검증, scan* 은 MemberValidator의 문자 단위 검증입니다.
+ * - field 파라미터는 검증에서 실패하는 규칙입니다(none이면 모든 검증 통과).
+ * - 실행: ./gradlew jmh -PjmhIncludes=MemberValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberValidationBenchmark {
+    // 이전 정규식(비교 기준)
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{3,14}$");
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{8,14}$");
+    private static final Pattern USER_NAME_PATTERN = Pattern.compile("^[가-힣]{2,20}$");
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[0-9]{10,11}$");
+
+    @Param({"none", "userId", "password", "userName", "phoneNumber", "confirmPassword"})
+    private String field;
+
+    private MemberService memberService;
+    private MemberValidator memberValidator;
+    private MemberDTO dto;
+
+    @Setup
+    public void setUp() {
+        memberValidator = new MemberValidator();
+        memberService = new MemberService(null, null, null, memberValidator, null, new SimpleMeterRegistry()); // 포맷팅만 사용
+        dto = new MemberDTO();
+        dto.setUserId("userId".equals(field) ? "us" : "user_1234");
+        dto.setPassword("password".equals(field) ? "pass" : "password123!");
+        dto.setConfirmPassword("confirmPassword".equals(field) ? "password123@" : "password123!");
+        dto.setUserName("userName".equals(field) ? "hong" : "홍길동");
+        dto.setPhoneNumber("phoneNumber".equals(field) ? "010.1234.5678" : "01012345678");
+    }
+
+    @Benchmark
+    public boolean regexUserId() {
+        return USER_ID_PATTERN.matcher(dto.getUserId()).matches();
+    }
+
+    @Benchmark
+    public boolean scanUserId() {
+        return MemberValidator.isValidUserId(dto.getUserId());
+    }
+
+    @Benchmark
+    public boolean regexPassword() {
+        return PASSWORD_PATTERN.matcher(dto.getPassword()).matches();
+    }
+
+    @Benchmark
+    public boolean scanPassword() {
+        return MemberValidator.isValidPassword(dto.getPassword());
+    }
+
+    @Benchmark
+    public boolean regexUserName() {
+        return USER_NAME_PATTERN.matcher(dto.getUserName()).matches();
+    }
+
+    @Benchmark
+    public boolean scanUserName() {
+        return MemberValidator.isValidUserName(dto.getUserName());
+    }
+
+    @Benchmark
+    public boolean regexPhoneNumber() {
+        return PHONE_NUMBER_PATTERN.matcher(dto.getPhoneNumber()).matches();
+    }
+
+    @Benchmark
+    public boolean scanPhoneNumber() {
+        return MemberValidator.isValidPhoneNumber(dto.getPhoneNumber());
+    }
+
+    @Benchmark
+    public String formatPhoneNumber() {
+        return memberService.formatPhoneNumber("01012345678");
+    }
+
+    /**
+     * 이전 saveUser 검증 전체(trim 공백 검사 + 정규식 5회 + equals)
+     */
+    @Benchmark
+    public String regexValidate() {
+        if (dto.getUserId().trim().isEmpty() || dto.getPassword().trim().isEmpty()
+                || dto.getConfirmPassword().trim().isEmpty() || dto.getUserName().trim().isEmpty()
+                || dto.getPhoneNumber().trim().isEmpty()) {
+            return "missing";
+        }
+        if (!USER_ID_PATTERN.matcher(dto.getUserId()).matches()) {
+            return "userId";
+        }
+        if (!PASSWORD_PATTERN.matcher(dto.getPassword()).matches()) {
+            return "password";
+        }
+        if (!PASSWORD_PATTERN.matcher(dto.getConfirmPassword()).matches()) {
+            return "confirmPassword";
+        }
+        if (!USER_NAME_PATTERN.matcher(dto.getUserName()).matches()) {
+            return "userName";
+        }
+        if (!PHONE_NUMBER_PATTERN.matcher(dto.getPhoneNumber()).matches()) {
+            return "phoneNumber";
+        }
+        return dto.getPassword().equals(dto.getConfirmPassword()) ? null : "mismatch";
+    }
+
+    /**
+     * MemberValidator 검증 전체(실패 시 saveUser와 같이 예외 throw/catch)
+     */
+    @Benchmark
+    public String scanValidate() {
+        try {
+            memberValidator.validate(dto);
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+}
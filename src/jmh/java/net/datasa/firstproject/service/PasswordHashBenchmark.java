@@ -0,0 +1,50 @@
+package net.datasa.firstproject.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordHashBenchmark
+ * - BCrypt 비용(strength)별 로그인 1건(matches)과 회원가입 1건(encode)의 처리량을 측정합니다.
+ * - 단일 스레드로 측정하므로 결과(ops/s)가 곧 코어 1개당 초당 로그인 수입니다.
+ *   member.password.pool-size 코어를 쓰면 최대 처리량은 대략 (결과 × pool-size)입니다.
+ * - 실행: ./gradlew jmh -PjmhIncludes=PasswordHashBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordHashBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        storedHash = encoder.encode("password123!");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches("password123!", storedHash);
+    }
+
+    @Benchmark
+    public String register() {
+        return encoder.encode("password123!");
+    }
+}
@@ -0,0 +1,113 @@
+package net.datasa.firstproject.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.dto.UserIdCheckDTO;
+import net.datasa.firstproject.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestLoggingBenchmark
+ * - 아이디 확인 요청(checkUserId) 처리량을 로그 설정별로 측정합니다(DB 조회 비용 제외).
+ *   - debug: 기본 설정과 같이 net.datasa.firstproject DEBUG, 파일에 동기 기록
+ *   - prod : logback-spring.xml의 prod 설정과 같이 INFO, AsyncAppender(제한된 큐, 가득 차면 버림)로 기록
+ * - 로그는 build/tmp/jmh-request-logging.log에 기록합니다(콘솔 출력은 JMH 출력과 섞이므로 파일 사용).
+ * - SQL 로그(show-sql, 바인딩 trace) 비용은 포함되지 않으므로, 전체 요청 처리량은
+ *   load-test/login-load.js를 기본/prod 프로필 서버에 각각 실행하여 비교합니다.
+ * - 실행: ./gradlew jmh -PjmhIncludes=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+    private static final String LOG_FILE = "build/tmp/jmh-request-logging.log";
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n";
+
+    @Param({"debug", "prod"})
+    private String profile;
+
+    private MemberService memberService;
+    private Appender<ILoggingEvent> appender;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+        context.getLogger("net.datasa.firstproject").setLevel("prod".equals(profile) ? Level.INFO : Level.DEBUG);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        new File(LOG_FILE).getParentFile().mkdirs();
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(LOG_FILE);
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        if ("prod".equals(profile)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1024);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        } else {
+            appender = file;
+        }
+        root.addAppender(appender);
+
+        MemberRepository repository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("existsByUserId")) {
+                        return true;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        // 인덱스는 준비 전 상태(항상 "사용 중일 수 있음")이므로 매 요청 existsByUserId까지 진행
+        MemberIdIndex idIndex = new MemberIdIndex(repository, new SimpleMeterRegistry(), 1000, 0.01);
+        memberService = new MemberService(repository, idIndex, null, new MemberValidator(), null, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Benchmark
+    public UserIdCheckDTO checkUserId() {
+        return memberService.checkUserId("user_1234");
+    }
+}
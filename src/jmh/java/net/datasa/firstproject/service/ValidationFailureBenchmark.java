@@ -0,0 +1,95 @@
+package net.datasa.firstproject.service;
+
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.exception.InvalidUserIdException;
+import net.datasa.firstproject.exception.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationFailureBenchmark
+ * - 잘못된 아이디로 회원가입했을 때 검증 실패를 알리는 방식별 비용을 비교합니다.
+ *   - stackTraceException: 실패마다 stack trace를 기록하는 예외 생성 후 throw/catch(이전 방식)
+ *   - stacklessException : 실패마다 stack trace 없는 예외 생성 후 throw/catch
+ *   - cachedException    : 미리 만든 예외 인스턴스를 throw/catch(validateMember)
+ *   - violationResult    : 예외를 던지지 않고 실패 사유만 반환(findViolation)
+ * - 실행: ./gradlew jmh -PjmhIncludes=ValidationFailureBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationFailureBenchmark {
+
+    private MemberValidator memberValidator;
+    private MemberDTO invalidDto;
+
+    @Setup
+    public void setUp() {
+        memberValidator = new MemberValidator();
+        invalidDto = new MemberDTO();
+        invalidDto.setUserId("ab");
+        invalidDto.setUserName("홍길동");
+        invalidDto.setPassword("password123!");
+        invalidDto.setConfirmPassword("password123!");
+        invalidDto.setPhoneNumber("01012345678");
+    }
+
+    @Benchmark
+    public String stackTraceException() {
+        try {
+            if (memberValidator.findViolation(invalidDto) != null) {
+                throw new StackTraceValidationException();
+            }
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessException() {
+        try {
+            if (memberValidator.findViolation(invalidDto) != null) {
+                throw new InvalidUserIdException();
+            }
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String cachedException() {
+        try {
+            ValidationException violation = memberValidator.findViolation(invalidDto);
+            if (violation != null) {
+                throw violation;
+            }
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String violationResult() {
+        ValidationException violation = memberValidator.findViolation(invalidDto);
+        return violation != null ? violation.getMessage() : null;
+    }
+
+    /**
+     * stack trace를 기록하는 이전 방식의 검증 예외
+     */
+    static final class StackTraceValidationException extends ValidationException {
+        StackTraceValidationException() {
+            super("아이디는 3~14자, 영문/숫자/특수문자만 가능합니다.", true);
+        }
+    }
+}
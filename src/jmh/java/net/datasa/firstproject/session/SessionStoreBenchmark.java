@@ -0,0 +1,80 @@
+package net.datasa.firstproject.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionStoreBenchmark
+ * - 로그인 사용자의 요청 1건이 세션에 대해 하는 일(조회 → 마지막 접근 시각 갱신 → userId 확인 → 저장)을 저장소별로 측정합니다.
+ *   - compact      : 노드 메모리의 CompactSessionRepository(HttpSession 경로)
+ *   - signedCookie : SignedCookieSessionRepository(토큰 서명 검증, 저장소 조회 없음)
+ * - login은 로그인 직후 세션 생성과 저장(signedCookie는 토큰 서명) 비용입니다.
+ * - 실행: ./gradlew jmh -PjmhIncludes=SessionStoreBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionStoreBenchmark {
+    private static final Duration TIMEOUT = Duration.ofMinutes(60);
+
+    @Param({"compact", "signedCookie"})
+    private String store;
+
+    private SessionRepository<? extends Session> repository;
+    private String sessionId;
+
+    @Setup
+    public void setUp() {
+        if ("compact".equals(store)) {
+            repository = new CompactSessionRepository(TIMEOUT, new SimpleMeterRegistry(), Clock.systemUTC());
+        } else {
+            String secret = Base64.getEncoder().encodeToString(new byte[32]);
+            repository = new SignedCookieSessionRepository(List.of("k1:" + secret), TIMEOUT, Clock.systemUTC());
+        }
+        sessionId = createAndSave(repository);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() {
+        return request(repository);
+    }
+
+    @Benchmark
+    public String login() {
+        String id = createAndSave(repository);
+        repository.deleteById(id); // compact 저장소가 측정 중 계속 커지지 않도록 바로 제거
+        return id;
+    }
+
+    private <S extends Session> Object request(SessionRepository<S> sessions) {
+        S session = sessions.findById(sessionId);
+        session.setLastAccessedTime(Instant.now());
+        Object userId = session.getAttribute("userId");
+        sessions.save(session);
+        return userId;
+    }
+
+    private static <S extends Session> String createAndSave(SessionRepository<S> sessions) {
+        S session = sessions.createSession();
+        session.setAttribute("userId", "user123");
+        session.setAttribute("userName", "홍길동");
+        sessions.save(session);
+        return session.getId();
+    }
+}
@@ -2,10 +2,21 @@ package net.datasa.firstproject;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class FirstProjectApplication {
+    // 기동 단계 기록 버퍼 크기(초과한 단계는 기록하지 않음)
+    static final int STARTUP_STEP_CAPACITY = 10000;
+
     public static void main(String[] args) {
-        SpringApplication.run(FirstProjectApplication.class, args);
+        SpringApplication application = new SpringApplication(FirstProjectApplication.class);
+        // 기동 단계 기록(-Dmember.startup.recording=true 또는 MEMBER_STARTUP_RECORDING=true)
+        // - 컨텍스트 생성 전에 설정해야 하므로 application.properties가 아닌 시스템 속성/환경 변수로 켭니다.
+        // - 기록은 /actuator/startup과 기동 완료 로그(StartupConfig)로 확인합니다.
+        if (Boolean.parseBoolean(System.getProperty("member.startup.recording", System.getenv("MEMBER_STARTUP_RECORDING")))) {
+            application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        }
+        application.run(args);
     }
 }
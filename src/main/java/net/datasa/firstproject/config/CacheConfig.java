@@ -0,0 +1,94 @@
+package net.datasa.firstproject.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * CacheConfig
+ * - Spring Cache 추상화를 Caffeine으로 구성합니다.
+ * - 캐시별 크기/만료 시간은 application.properties(member.cache.*)에서 설정합니다.
+ * - 모든 캐시는 recordStats()로 통계를 기록하므로 Actuator가 cache.gets/puts/evictions 지표로 노출합니다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String MEMBER_CREDENTIALS = "memberCredentials";
+    public static final String MEMBER_COUNT = "memberCount";
+    public static final String MEMBER_LIST_FRAGMENTS = "memberListFragments";
+
+    /**
+     * 캐시 매니저
+     * - memberCredentials: userId별 로그인 인증 정보. 존재하지 않는 아이디는 null(NullValue)로 짧게 캐시합니다(negative cache).
+     * - memberCount: 전체 사용자 수
+     * - memberListFragments: 렌더링한 사용자 목록 표 조각(HTML). 키에 테이블 버전이 들어가므로 가입 후에는 새 키로 채워지고
+     *   이전 버전 항목은 크기 제한/만료로 밀려납니다(UserTableFragmentCache 참고).
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${member.cache.credentials.maximum-size:10000}") long credentialsMaximumSize,
+            @Value("${member.cache.credentials.expire-after-write:5m}") Duration credentialsTtl,
+            @Value("${member.cache.credentials.negative-expire-after-write:30s}") Duration negativeTtl,
+            @Value("${member.cache.count.expire-after-write:1m}") Duration countTtl,
+            @Value("${member.cache.list-fragments.maximum-size:256}") long listFragmentsMaximumSize,
+            @Value("${member.cache.list-fragments.max-stale:30s}") Duration listFragmentsTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of()); // 등록하지 않은 이름의 캐시는 생성하지 않음
+
+        cacheManager.registerCustomCache(MEMBER_CREDENTIALS, Caffeine.newBuilder()
+                .maximumSize(credentialsMaximumSize)
+                .expireAfter(new NegativeAwareExpiry(credentialsTtl, negativeTtl))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEMBER_COUNT, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(countTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEMBER_LIST_FRAGMENTS, Caffeine.newBuilder()
+                .maximumSize(listFragmentsMaximumSize)
+                .expireAfterWrite(listFragmentsTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    /**
+     * 값이 있는 항목과 null(존재하지 않음) 항목에 서로 다른 만료 시간을 적용하는 Expiry
+     * - 가입 직후 다른 노드의 negative 항목이 남아 있어도 짧은 시간 안에 사라지도록 합니다.
+     */
+    static final class NegativeAwareExpiry implements Expiry<Object, Object> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        NegativeAwareExpiry(Duration ttl, Duration negativeTtl) {
+            ttlNanos = ttl.toNanos();
+            negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value == NullValue.INSTANCE ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
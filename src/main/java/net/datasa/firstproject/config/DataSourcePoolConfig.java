@@ -0,0 +1,57 @@
+package net.datasa.firstproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * DataSourcePoolConfig
+ * - member.datasource.pool-size가 설정된 경우(prod 프로필) Hikari 커넥션 풀 크기를 CPU 코어 수로부터 정합니다.
+ *   - 0 이하: 코어 수 * 2 + 1 (MySQL이 I/O 대기 중인 커넥션만큼 여유를 둔 값)
+ *   - 양수  : 해당 값
+ * - 최소 유휴 커넥션 수도 같은 값으로 맞춰 고정 크기 풀로 운영합니다(로그인 폭주 시 커넥션 생성 지연 방지).
+ * - 풀 상태(active/idle/pending)와 커넥션 획득 시간(hikaricp.connections.acquire)은
+ *   Spring Boot가 Actuator 지표로 자동 등록합니다(히스토그램 설정은 application.properties 참고).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty("member.datasource.pool-size")
+public class DataSourcePoolConfig {
+
+    /**
+     * HikariDataSource 초기화 전에 풀 크기를 적용하는 후처리기
+     * - 풀은 첫 커넥션 요청 시 시작되므로 빈 초기화 전에 설정하면 그대로 반영됩니다.
+     */
+    @Bean
+    static BeanPostProcessor hikariPoolSizePostProcessor(Environment environment) {
+        int configured = environment.getProperty("member.datasource.pool-size", Integer.class, 0);
+        int poolSize = resolvePoolSize(configured, Runtime.getRuntime().availableProcessors());
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("[DataSourcePoolConfig] {} 커넥션 풀 크기: {}", beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 커넥션 풀 크기 계산
+     *
+     * @param configured 설정값(0 이하이면 코어 수 기준으로 계산)
+     * @param cores      CPU 코어 수
+     * @return 커넥션 풀 크기
+     */
+    static int resolvePoolSize(int configured, int cores) {
+        return configured > 0 ? configured : cores * 2 + 1;
+    }
+}
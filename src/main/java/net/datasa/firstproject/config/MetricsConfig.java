@@ -0,0 +1,57 @@
+package net.datasa.firstproject.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MetricsConfig
+ * - @Timed가 붙은 클래스/메서드(MemberService, MemberController)를 측정하는 TimedAspect를 등록합니다.
+ * - member.* 타이머의 exception 태그를 outcome 태그로 바꿉니다.
+ *   성공(exception=none)은 outcome=success, 실패는 예외 클래스 이름(InvalidUserIdException 등)입니다.
+ * - 지표는 /actuator/prometheus(Prometheus 텍스트 형식)와 /actuator/metrics로 조회합니다.
+ */
+@Configuration
+public class MetricsConfig {
+    static final String MEMBER_METER_PREFIX = "member.";
+    static final String EXCEPTION_TAG = "exception";
+    static final String OUTCOME_TAG = "outcome";
+    static final String SUCCESS = "success";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * member.* 지표의 exception 태그를 outcome 태그로 변환하는 필터
+     */
+    @Bean
+    public MeterFilter memberOutcomeTagFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                String exception = id.getTag(EXCEPTION_TAG);
+                if (exception == null || !id.getName().startsWith(MEMBER_METER_PREFIX)) {
+                    return id;
+                }
+
+                List<Tag> tags = new ArrayList<>();
+                for (Tag tag : id.getTagsAsIterable()) {
+                    if (!EXCEPTION_TAG.equals(tag.getKey())) {
+                        tags.add(tag);
+                    }
+                }
+                tags.add(Tag.of(OUTCOME_TAG, "none".equals(exception) ? SUCCESS : exception));
+                return id.replaceTags(tags);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package net.datasa.firstproject.config;
+
+import net.datasa.firstproject.dto.MemberBulkResultDTO;
+import net.datasa.firstproject.dto.MemberCredential;
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.dto.UserIdCheckDTO;
+import net.datasa.firstproject.entity.MemberEntity;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * NativeHintsConfig
+ * - GraalVM native image(-Pnative)에서 리플렉션/프록시로 접근하는 타입을 AOT 처리 시 등록합니다.
+ *   JVM 실행(AOT 포함)에는 영향이 없습니다.
+ * - 바인딩/JSON: MemberEntity, MemberDTO 등의 필드와 Lombok이 생성한 getter/setter
+ *   (폼 바인딩, 일괄 회원가입 JSON, Thymeleaf SpEL 접근)
+ * - 프로젝션: Spring Data가 MemberSummary/MemberCredential을 JDK 동적 프록시로 만들고,
+ *   템플릿이 프록시의 getter(item.userId 등)를 리플렉션으로 호출합니다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.MemberRuntimeHints.class)
+@RegisterReflectionForBinding({MemberEntity.class, MemberDTO.class, MemberBulkResultDTO.class, UserIdCheckDTO.class})
+public class NativeHintsConfig {
+
+    static class MemberRuntimeHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> projection : new Class<?>[]{MemberSummary.class, MemberCredential.class}) {
+                hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(projection, TargetAware.class));
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
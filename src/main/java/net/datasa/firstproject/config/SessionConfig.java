@@ -0,0 +1,48 @@
+package net.datasa.firstproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datasa.firstproject.session.CompactSessionRepository;
+import net.datasa.firstproject.session.SignedCookieSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SessionConfig
+ * - HttpSession을 Spring Session의 SessionRepositoryFilter로 감싸고, member.session.mode에 따라 저장소를 선택합니다.
+ *   - compact(기본): CompactSessionRepository, 노드 메모리에 세션을 보관
+ *   - signed-cookie: SignedCookieSessionRepository, 서명된 쿠키 토큰만으로 인증(노드 간 공유 저장소/sticky session 불필요)
+ * - 세션 만료 시간은 기존 server.servlet.session.timeout(60m)을 그대로 따르며,
+ *   compact 모드의 만료 세션 제거 주기는 member.session.cleanup-interval로 설정합니다.
+ * - 컨트롤러/서비스는 두 모드 모두 HttpSession 속성(userId, userName)만 사용하므로 코드 변경이 없습니다.
+ */
+@EnableScheduling
+@EnableSpringHttpSession
+@Configuration
+public class SessionConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "member.session.mode", havingValue = "compact", matchIfMissing = true)
+    public CompactSessionRepository sessionRepository(
+            MeterRegistry meterRegistry,
+            @Value("${server.servlet.session.timeout:60m}") Duration timeout
+    ) {
+        return new CompactSessionRepository(timeout, meterRegistry, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "member.session.mode", havingValue = "signed-cookie")
+    public SignedCookieSessionRepository signedCookieSessionRepository(
+            @Value("${member.session.signing.keys:}") List<String> signingKeys,
+            @Value("${server.servlet.session.timeout:60m}") Duration timeout
+    ) {
+        return new SignedCookieSessionRepository(signingKeys, timeout, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,94 @@
+package net.datasa.firstproject.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.datasa.firstproject.repository.MemberRepository;
+import net.datasa.firstproject.repository.MemberSchemaMigration;
+import net.datasa.firstproject.service.MemberIdIndex;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * StartupConfig
+ * - 빠른 기동 모드(fast-start 프로필, spring.main.lazy-initialization=true)에서도 즉시 생성할 빈을 지정합니다.
+ *   - MemberRepository: JPA EntityManagerFactory/Hibernate 메타모델과 리포지토리를 기동 중에 만들어
+ *     첫 요청이 이를 기다리지 않도록 합니다.
+ *   - MemberIdIndex: 기동 완료(ApplicationReadyEvent) 후 아이디 인덱스를 채우는 warm-up 빈
+ *   - MemberSchemaMigration: 요청을 받기 전에 비밀번호 컬럼 길이를 확인/확장하는 빈
+ * - 기동 단계 기록(BufferingApplicationStartup, FirstProjectApplication 참고)이 켜져 있으면 기동 완료 시
+ *   오래 걸린 단계(빈 생성, JPA 메타모델/스키마 검증, Thymeleaf 엔진 등) 상위 목록을 로그로 남깁니다.
+ *   전체 기록은 /actuator/startup에서 조회합니다.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+    // 기동 리포트에 출력할 단계 수
+    static final int REPORT_SIZE = 20;
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerMemberBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MemberRepository.class, MemberIdIndex.class, MemberSchemaMigration.class);
+    }
+
+    /**
+     * 기동 리포트 로그
+     * - 기록을 비우지 않고(getBufferedTimeline) 읽으므로 /actuator/startup 조회에는 영향이 없습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupReport(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getSpringApplication().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        log.info("[StartupConfig] 기동 단계 기록 - 단계: {}개, 기동 시간: {}ms (상위 {}개, 하위 단계 포함 시간)",
+                timeline.getEvents().size(), event.getTimeTaken().toMillis(), REPORT_SIZE);
+        for (String line : slowestSteps(timeline, REPORT_SIZE)) {
+            log.info("[StartupConfig]   {}", line);
+        }
+    }
+
+    /**
+     * 소요 시간이 긴 기동 단계 목록
+     *
+     * @param timeline 기동 단계 기록
+     * @param limit    최대 단계 수
+     * @return "소요 시간 단계 이름 [태그]" 형식의 문자열 목록(소요 시간 내림차순)
+     */
+    static List<String> slowestSteps(StartupTimeline timeline, int limit) {
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(timeline.getEvents());
+        events.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+
+        List<String> lines = new ArrayList<>(Math.min(limit, events.size()));
+        for (StartupTimeline.TimelineEvent event : events.subList(0, Math.min(limit, events.size()))) {
+            lines.add(format(event.getDuration(), event.getStartupStep()));
+        }
+        return lines;
+    }
+
+    private static String format(Duration duration, StartupStep step) {
+        StringBuilder line = new StringBuilder();
+        line.append(String.format("%6dms %s", duration.toMillis(), step.getName()));
+        List<String> tags = new ArrayList<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.add(tag.getKey() + "=" + tag.getValue());
+        }
+        if (!tags.isEmpty()) {
+            line.append(' ').append(tags);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package net.datasa.firstproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * StaticResourceConfig
+ * - 정적 리소스(static/**)를 내용 해시가 붙은 URL(/css/style-<md5>.css)로 제공합니다.
+ *   템플릿은 @{/css/style.css}처럼 링크 표현식으로 참조하며, ResourceUrlEncodingFilter가 해시 URL로 바꿉니다.
+ * - 내용이 바뀌면 URL도 바뀌므로 응답은 Cache-Control: public, max-age=1년, immutable 로 캐시하여
+ *   재방문 시 브라우저가 정적 리소스를 다시 요청하지 않습니다.
+ * - 페이지는 빌드 시 만든 CSS/JS 번들(/bundle/<이름>.css|js, bundleFrontend 참고)만 참조하므로 외부 CDN 요청이 없습니다.
+ * - 빌드 시 만든 .br/.gz 파일(processResources 참고)이 있으면 Accept-Encoding에 맞춰 압축본을 그대로 보냅니다.
+ * - Spring Boot 기본 정적 리소스 매핑은 immutable을 설정할 수 없으므로 끄고(spring.web.resources.add-mappings=false) 여기서 등록합니다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+    static final String[] STATIC_LOCATIONS = {"classpath:/static/"};
+
+    private final Duration maxAge;
+
+    public StaticResourceConfig(@Value("${member.static.max-age:365d}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC_LOCATIONS)
+                .setCacheControl(CacheControl.maxAge(maxAge).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -1,30 +1,34 @@
 package net.datasa.firstproject.controller;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.SessionAttribute;
 
 @Slf4j
 @Controller
 public class MainController {
     /**
      * 메인 페이지 라우팅 메서드
-     * - 세션에 저장된 사용자 아이디(userId)가 존재하면 화면에서 환영 메시지 등에 활용할 수 있도록 모델에 추가합니다.
+     * - 세션에 저장된 사용자 아이디(userId)와 이름(userName)이 존재하면 화면에서 환영 메시지 등에 활용할 수 있도록 모델에 추가합니다.
+     * - 세션 객체 전체가 아니라 두 속성 값만 전달하며, 세션이 없으면 새로 만들지 않습니다.
      * - 로그인 여부와 무관하게 index 템플릿을 반환합니다.
      *
-     * @param model   뷰 템플릿으로 데이터 전달을 위한 Model 객체
-     * @param session 현재 사용자의 HttpSession (로그인 사용자 식별용 userId를 저장/조회)
+     * @param model    뷰 템플릿으로 데이터 전달을 위한 Model 객체
+     * @param userId   세션의 로그인 사용자 아이디(비로그인 시 null)
+     * @param userName 세션의 로그인 사용자 이름(비로그인 시 null)
      * @return index 템플릿 경로(index)
      */
     @GetMapping({"", "/"})
     public String index(
             Model model,
-            HttpSession session
+            @SessionAttribute(name = "userId", required = false) String userId,
+            @SessionAttribute(name = "userName", required = false) String userName
     ) {
         log.debug("[MainController.index] 호출 완료.");
-        model.addAttribute("userId", session);
+        model.addAttribute("userId", userId);
+        model.addAttribute("userName", userName);
         return "index";
     }
 }
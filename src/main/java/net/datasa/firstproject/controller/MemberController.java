@@ -1,30 +1,71 @@
 package net.datasa.firstproject.controller;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
+import net.datasa.firstproject.dto.MemberBulkResultDTO;
 import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.dto.UserIdCheckDTO;
+import net.datasa.firstproject.exception.LoginThrottledException;
+import net.datasa.firstproject.exception.ServiceBusyException;
 import net.datasa.firstproject.exception.ValidationException;
+import net.datasa.firstproject.service.LoginThrottle;
+import net.datasa.firstproject.service.MemberExportFormat;
 import net.datasa.firstproject.service.MemberService;
+import net.datasa.firstproject.service.MemberTableVersion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Slf4j
 @Controller
 @RequestMapping("/member")
+@Timed(value = "member.controller", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class MemberController {
+    // 일괄 회원가입 1회 요청당 최대 행 수
+    private static final int MAX_BULK_SIZE = 10_000;
+
     private final MemberService memberService;
+    private final LoginThrottle loginThrottle;
+    private final MemberTableVersion tableVersion;
+    private final UserTableFragmentCache userTableCache;
+    private final UserListStreamRenderer userListStreamRenderer;
 
     @Autowired
     /**
      * 생성자 주입
-     * - 스프링 컨테이너가 MemberService 빈을 주입합니다.
+     * - 스프링 컨테이너가 MemberService, LoginThrottle, MemberTableVersion, UserTableFragmentCache, UserListStreamRenderer 빈을 주입합니다.
      *
-     * @param service 회원 관련 비즈니스 로직을 담당하는 서비스 빈
+     * @param service    회원 관련 비즈니스 로직을 담당하는 서비스 빈
+     * @param throttle   아이디/IP별 로그인 시도 제한 빈
+     * @param version    사용자 목록 ETag/Last-Modified를 만드는 테이블 버전 빈
+     * @param tableCache 렌더링한 사용자 목록 표 조각 캐시 빈
+     * @param renderer   전체 사용자 화면을 응답 스트림에 렌더링하는 빈
      */
-    public MemberController(MemberService service) {
+    public MemberController(MemberService service, LoginThrottle throttle, MemberTableVersion version,
+                            UserTableFragmentCache tableCache, UserListStreamRenderer renderer) {
         memberService = service;
+        loginThrottle = throttle;
+        tableVersion = version;
+        userTableCache = tableCache;
+        userListStreamRenderer = renderer;
     }
 
     /**
@@ -68,6 +109,72 @@ public class MemberController {
         }
     }
 
+    /**
+     * 아이디 사용 가능 여부 확인(GET, JSON)
+     * - 회원가입 화면에서 아이디를 입력하는 동안 호출됩니다.
+     * - 대부분의 미사용 아이디는 메모리 내 아이디 인덱스로 판별되어 DB를 조회하지 않습니다.
+     *
+     * @param userId 확인할 사용자 아이디
+     * @return 아이디 확인 결과 DTO
+     */
+    @GetMapping("/check-id")
+    @ResponseBody
+    public UserIdCheckDTO checkUserId(@RequestParam(value = "userId", required = false) String userId) {
+        log.debug("[GET - MemberController.checkUserId] 호출 - userId: {}", userId);
+        return memberService.checkUserId(userId);
+    }
+
+    /**
+     * 휴대전화번호로 사용자 조회(GET, JSON)
+     * - 하이픈/공백/+82 국가번호가 섞인 입력도 저장 형식으로 정규화하여 인덱스로 조회합니다.
+     * - 로그인한 사용자만 호출할 수 있으며, 비로그인 시 401을 반환합니다.
+     *
+     * @param phoneNumber 휴대전화번호 입력값
+     * @param session     현재 사용자 세션
+     * @return 해당 번호로 가입한 사용자 목록(형식이 올바르지 않으면 빈 목록)
+     */
+    @GetMapping("/find-by-phone")
+    @ResponseBody
+    public ResponseEntity<List<MemberSummary>> findByPhoneNumber(
+            @RequestParam("phoneNumber") String phoneNumber,
+            HttpSession session
+    ) {
+        log.debug("[GET - MemberController.findByPhoneNumber] 호출 완료.");
+
+        if (session.getAttribute("userId") == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(memberService.findUsersByPhoneNumber(phoneNumber));
+    }
+
+    /**
+     * 일괄 회원가입 처리(POST, JSON)
+     * - 마이그레이션 용도로 회원가입 데이터 리스트를 한 번에 등록합니다.
+     * - 로그인한 사용자만 호출할 수 있으며, 비로그인 시 401을 반환합니다.
+     * - 요청 행 수가 MAX_BULK_SIZE를 넘으면 413을 반환합니다.
+     *
+     * @param dtos    회원가입 데이터 DTO 리스트(JSON 배열)
+     * @param session 현재 사용자 세션
+     * @return 입력 순서대로 정렬된 행별 처리 결과
+     */
+    @PostMapping("/bulk")
+    @ResponseBody
+    public ResponseEntity<List<MemberBulkResultDTO>> registerBulk(
+            @RequestBody List<MemberDTO> dtos,
+            HttpSession session
+    ) {
+        log.debug("[POST - MemberController.registerBulk] 호출 - size: {}", dtos.size());
+
+        if (session.getAttribute("userId") == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (dtos.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        return ResponseEntity.ok(memberService.saveUsers(dtos));
+    }
+
     /**
      * 로그인 화면 진입(GET)
      * - 사용자가 로그인 폼을 입력할 수 있는 화면으로 이동합니다.
@@ -82,6 +189,7 @@ public class MemberController {
 
     /**
      * 로그인 처리(POST) - Session 방식
+     * - 아이디/클라이언트 IP별 시도 제한을 먼저 확인하며, 초과 시 DB 조회/해시 대조 없이 429를 반환합니다.
      * - 서비스 계층에서 DB 기반 인증을 수행합니다.
      * - 인증 성공 시 세션에 userId, userName을 저장하고 루트로 리디렉션합니다.
      * - 인증 실패 시 에러 메시지를 전달하고 로그인 화면으로 돌아갑니다.
@@ -90,6 +198,7 @@ public class MemberController {
      * @param userId   사용자 아이디(폼 입력)
      * @param password 사용자 비밀번호(폼 입력)
      * @param model    에러 메시지 전달을 위한 Model
+     * @param request  클라이언트 IP 확인용 요청 객체(프록시 뒤에서는 server.forward-headers-strategy 설정 필요)
      * @return 리디렉션 경로 또는 로그인 템플릿 경로(view/member/login)
      */
     @PostMapping("/login")
@@ -97,10 +206,14 @@ public class MemberController {
             HttpSession session,
             @RequestParam("userId") String userId,
             @RequestParam("password") String password,
-            Model model
+            Model model,
+            HttpServletRequest request
     ) {
         log.debug("[POST - MemberController.login] 호출 완료 - userId: {}", userId);
 
+        // 시도 제한 확인(초과 시 LoginThrottledException → 429)
+        loginThrottle.acquire(userId, request.getRemoteAddr());
+
         try {
             // Service를 통한 DB 기반 인증
             MemberDTO authenticatedUser = memberService.login(userId, password);
@@ -122,7 +235,7 @@ public class MemberController {
 
     /**
      * 로그아웃 처리(GET)
-     * - 세션에서 userId 속성을 제거하여 로그인 상태를 해제하고 루트로 리디렉션합니다.
+     * - 세션에서 userId, userName 속성을 제거하여 로그인 상태를 해제하고 루트로 리디렉션합니다(signed-cookie 모드에서는 로그인 정보가 없는 토큰으로 쿠키를 덮어씀).
      *
      * @param session 현재 사용자의 HttpSession
      * @return 루트로 리디렉션
@@ -131,6 +244,7 @@ public class MemberController {
     public String logout(HttpSession session) {
         log.debug("[POST - MemberService.logout] 호출 완료.");
         session.removeAttribute("userId");
+        session.removeAttribute("userName");
 
         // > userId: null
         log.debug("userId: {}", session.getAttribute("userId"));
@@ -139,32 +253,60 @@ public class MemberController {
 
     /**
      * 사용자 목록 화면(GET)
-     * - 모든 사용자 정보를 조회하여 모델에 담고, 사용자 목록 화면을 렌더링합니다.
+     * - 사용자 정보를 페이지 단위로 조회하여 모델에 담고, 사용자 목록 화면을 렌더링합니다.
+     * - after 파라미터가 없으면 오프셋(page) 방식, 있으면 해당 아이디 이후를 조회하는 키셋 방식으로 조회합니다.
+     * - 테이블 버전으로 ETag/Last-Modified를 응답하며, 클라이언트가 가진 버전이 최신이면 304(본문 없음)로 응답합니다.
+     * - 표 조각은 테이블 버전/페이지별로 캐시하므로 가입이 없는 동안에는 목록/count 조회 없이 렌더링합니다.
      * - 접근 제어(로그인 여부 체크)는 추후 공통 인터셉터/필터로 이관 가능하며, 샘플로 test 엔드포인트에서 확인합니다.
      *
-     * @param model 뷰 템플릿으로 데이터 전달을 위한 Model 객체
-     * @return 사용자 목록 템플릿 경로(view/member/user-list)
+     * @param page     0부터 시작하는 페이지 번호(오프셋 방식)
+     * @param size     페이지 크기
+     * @param after    직전 페이지의 마지막 사용자 아이디(키셋 방식)
+     * @param offset   키셋 방식에서 번호 표시를 위한 앞선 행 수
+     * @param model    뷰 템플릿으로 데이터 전달을 위한 Model 객체
+     * @param request  조건부 요청(If-None-Match/If-Modified-Since) 확인용 요청
+     * @param response Cache-Control 헤더 설정용 응답
+     * @return 사용자 목록 템플릿 경로(view/member/user-list), 304 응답 시 null
      */
     @GetMapping({"/list"})
-    public String userListView(Model model) {
+    public String userListView(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "offset", defaultValue = "0") long offset,
+            Model model,
+            WebRequest request,
+            HttpServletResponse response
+    ) {
         log.debug("[GET - MemberController.userListView] 호출 완료.");
-        model.addAttribute("users", memberService.findAllUser());
-        return "view/member/user-list";
+        return userListOrNotModified(model, request, response, "/member/list", page, size, after, offset);
     }
 
     /**
      * 보호 리소스 접근 테스트 라우팅 메서드
      * - 세션에 저장된 사용자 아이디(userId)가 존재하지 않으면 로그인 페이지로 리디렉션하여 비로그인 사용자의 접근을 차단합니다.
-     * - 세션이 존재하면 사용자 목록을 조회하여 사용자 목록 템플릿을 반환합니다.
+     * - 세션이 존재하면 사용자 목록을 페이지 단위로 조회하여 사용자 목록 템플릿을 반환합니다(ETag/304, 표 조각 캐시는 /list와 동일).
      *
-     * @param model   뷰 템플릿으로 데이터 전달을 위한 Model
-     * @param session 현재 사용자 세션
-     * @return 로그인 페이지로 리디렉션 또는 사용자 목록 템플릿 경로(view/member/user-list)
+     * @param page     0부터 시작하는 페이지 번호(오프셋 방식)
+     * @param size     페이지 크기
+     * @param after    직전 페이지의 마지막 사용자 아이디(키셋 방식)
+     * @param offset   키셋 방식에서 번호 표시를 위한 앞선 행 수
+     * @param model    뷰 템플릿으로 데이터 전달을 위한 Model
+     * @param session  현재 사용자 세션
+     * @param request  조건부 요청(If-None-Match/If-Modified-Since) 확인용 요청
+     * @param response Cache-Control 헤더 설정용 응답
+     * @return 로그인 페이지로 리디렉션 또는 사용자 목록 템플릿 경로(view/member/user-list), 304 응답 시 null
      */
     @GetMapping("/test")
     public String test(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "offset", defaultValue = "0") long offset,
             Model model,
-            HttpSession session
+            HttpSession session,
+            WebRequest request,
+            HttpServletResponse response
     ) {
         log.debug("[GET - MemberService.test] 호출 완료.");
 
@@ -174,8 +316,177 @@ public class MemberController {
             return "redirect:/member/login";
         }
 
-        model.addAttribute("users", memberService.findAllUser());
+        return userListOrNotModified(model, request, response, "/member/test", page, size, after, offset);
+    }
+
+    /**
+     * 전체 사용자 화면(GET)
+     * - 페이지 나눔 없이 전체 사용자를 한 화면에 보여 줍니다. 세션에 userId가 없으면 로그인 페이지로 리디렉션합니다.
+     * - 목록을 모델에 모아 뷰에서 렌더링하면 표 전체가 메모리에 올라가고 렌더링이 끝나야 전송이 시작되므로,
+     *   스트리밍 쿼리를 읽는 동안 템플릿을 응답 스트림에 바로 렌더링합니다(UserListStreamRenderer).
+     * - 첫 행은 쿼리 결과가 도착하는 즉시 전송되고, 서버 메모리는 flush 단위(chunk) 크기로 제한됩니다.
+     * - 렌더링은 내보내기와 같이 비동기로 수행되며, 그동안 읽기 전용 트랜잭션(커넥션 1개)이 유지됩니다.
+     *
+     * @param session 현재 사용자 세션
+     * @return 로그인 페이지로 리디렉션 또는 스트리밍 HTML 응답
+     */
+    @GetMapping("/all")
+    public ResponseEntity<StreamingResponseBody> allUsersView(HttpSession session) {
+        log.debug("[GET - MemberController.allUsersView] 호출 완료.");
+
+        if (session.getAttribute("userId") == null) {
+            log.debug("### 로그인되지 않은 사용자의 접근 시도");
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create("/member/login")).build();
+        }
+
+        StreamingResponseBody body = out -> memberService.readAllUsers(users -> userListStreamRenderer.render(users, out));
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                .body(body);
+    }
+
+    /**
+     * 사용자 전체 내보내기(GET)
+     * - 로그인한 사용자만 접근할 수 있으며, 비로그인 시 401을 반환합니다.
+     * - StreamingResponseBody로 응답하므로 DB에서 읽은 행이 곧바로 소켓으로 전송되고,
+     *   요청 스레드는 즉시 반환됩니다(비동기 처리).
+     *
+     * @param format  출력 형식(csv 또는 ndjson)
+     * @param session 현재 사용자 세션
+     * @return 스트리밍 응답(지원하지 않는 형식이면 400)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpSession session
+    ) {
+        log.debug("[GET - MemberController.export] 호출 - format: {}", format);
+
+        if (session.getAttribute("userId") == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        MemberExportFormat exportFormat = MemberExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> memberService.exportUsers(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("members." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 서버 혼잡 응답
+     * - 비밀번호 해시 풀이 포화되어 로그인/회원가입을 처리할 수 없을 때 큐에 쌓지 않고 즉시 503을 반환합니다.
+     * - Retry-After 헤더로 재시도 시점을 안내합니다.
+     *
+     * @param e 서버 혼잡 예외
+     * @return 503 응답
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<String> handleServiceBusy(ServiceBusyException e) {
+        log.warn("[MemberController.handleServiceBusy] 요청 거절 - {}", e.getMessage());
+        return serviceUnavailable(e.getMessage());
+    }
+
+    /**
+     * DB 커넥션 획득 실패 응답
+     * - 커넥션 풀(Hikari)이 모두 사용 중이어서 connection-timeout 안에 커넥션을 받지 못한 경우입니다.
+     * - 가상 스레드 모드(virtual 프로필)에서는 요청 스레드 수가 제한되지 않으므로 풀 앞에서 대기하던 요청이
+     *   이 경로로 빠지며, 해시 풀 포화와 같은 503 응답으로 변환합니다.
+     *
+     * @param e 트랜잭션 시작(커넥션 획득) 실패 예외
+     * @return 503 응답
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> handleConnectionUnavailable(CannotCreateTransactionException e) {
+        log.warn("[MemberController.handleConnectionUnavailable] 커넥션 획득 실패 - {}", e.getMessage());
+        return serviceUnavailable(new ServiceBusyException().getMessage());
+    }
+
+    /**
+     * 로그인 시도 제한 응답
+     * - Retry-After 헤더로 다음 시도가 허용되는 시점(초)을 안내합니다.
+     *
+     * @param e 로그인 시도 제한 예외
+     * @return 429 응답
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<String> handleLoginThrottled(LoginThrottledException e) {
+        log.warn("[MemberController.handleLoginThrottled] 로그인 시도 제한 - retryAfter: {}s", e.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(e.getMessage());
+    }
+
+    private ResponseEntity<String> serviceUnavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(message);
+    }
 
+    /**
+     * 사용자 목록 조건부 응답
+     * - 클라이언트의 ETag/Last-Modified가 현재 테이블 버전과 같으면 304로 응답합니다(null 반환).
+     * - 아니면 표 조각을 캐시에서 꺼내거나, 없으면 목록을 조회/렌더링하여 캐시한 뒤 userTable 모델 속성으로 전달합니다.
+     * - 사용자 목록은 로그인 사용자에게만 보여 주는 화면이기도 하므로 공유 캐시(프록시)에는 저장하지 않고(private),
+     *   브라우저는 매번 서버에 재검증하도록(no-cache) 합니다.
+     */
+    private String userListOrNotModified(Model model, WebRequest request, HttpServletResponse response,
+                                         String listPath, int page, int size, String after, long offset) {
+        MemberTableVersion.Version version = tableVersion.current();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+
+        UserTableFragmentCache.Key key = new UserTableFragmentCache.Key(version.key(), listPath, page, size, after, offset);
+        String userTable = userTableCache.get(key);
+        if (userTable == null) {
+            addUserPage(model, listPath, page, size, after, offset);
+            userTable = userTableCache.render(key, model.asMap());
+        }
+        model.addAttribute("userTable", userTable);
         return "view/member/user-list";
     }
+
+    /**
+     * 사용자 목록 페이지 조회 및 모델 구성
+     * - after가 있으면 키셋 방식, 없으면 오프셋 방식으로 조회합니다.
+     * - 전체 건수는 목록 조회와 별개로 캐시된 count 쿼리에서 가져옵니다.
+     */
+    private void addUserPage(Model model, String listPath, int page, int size, String after, long offset) {
+        boolean keyset = after != null && !after.isEmpty();
+        Slice<MemberSummary> users = keyset
+                ? memberService.findUserSliceAfter(after, size)
+                : memberService.findUserPage(page, size);
+
+        int pageSize = users.getSize();
+        long totalCount = memberService.countAllUser();
+        int totalPages = (int) ((totalCount + pageSize - 1) / pageSize);
+        int currentPage = keyset ? 0 : users.getNumber();
+        long rowOffset = keyset ? Math.max(offset, 0) : (long) currentPage * pageSize;
+
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("listPath", listPath);
+        model.addAttribute("keyset", keyset);
+        model.addAttribute("page", currentPage);
+        model.addAttribute("size", pageSize);
+        model.addAttribute("totalCount", totalCount);
+        model.addAttribute("totalPages", totalPages);
+        model.addAttribute("startPage", Math.max(0, currentPage - 2));
+        model.addAttribute("endPage", Math.max(0, Math.min(totalPages - 1, currentPage + 2)));
+        model.addAttribute("rowOffset", rowOffset);
+        model.addAttribute("hasNext", users.hasNext());
+        model.addAttribute("nextAfter", users.hasContent() ? users.getContent().get(users.getNumberOfElements() - 1).getUserId() : null);
+    }
 }
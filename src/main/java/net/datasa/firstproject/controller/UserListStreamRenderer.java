@@ -0,0 +1,117 @@
+package net.datasa.firstproject.controller;
+
+import net.datasa.firstproject.dto.MemberSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * UserListStreamRenderer
+ * - 전체 사용자 화면(view/member/user-all)을 응답 스트림에 바로 렌더링합니다.
+ * - 템플릿의 th:each는 스트리밍 쿼리의 Iterator를 한 행씩 소비하며, chunk-size 행마다 flush 하므로
+ *   응답은 chunked로 조금씩 전송되고 힙 사용량은 테이블 크기가 아니라 chunk 크기에 비례합니다.
+ * - 첫 행을 읽기 전에 한 번 flush 하여 페이지 머리(스타일, 표 헤더)가 쿼리 결과를 기다리지 않고 바로 전송됩니다.
+ * - 요청과 무관한 Context로 렌더링하므로 템플릿에서 요청 정보(@{...} 링크 등)를 사용하지 않습니다.
+ *   정적 리소스의 내용 해시 URL은 ResourceUrlProvider로 구해 변수로 넘깁니다(StaticResourceConfig 참고).
+ */
+@Component
+public class UserListStreamRenderer {
+    static final String TEMPLATE = "view/member/user-all";
+
+    private final ITemplateEngine templateEngine;
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final int chunkSize;
+
+    @Autowired
+    /**
+     * 생성자 주입
+     *
+     * @param templateEngine      전체 사용자 화면을 렌더링할 템플릿 엔진
+     * @param resourceUrlProvider 정적 리소스의 내용 해시 URL을 구하는 빈
+     * @param chunkSize           flush 하는 행 단위
+     */
+    public UserListStreamRenderer(ITemplateEngine templateEngine, ResourceUrlProvider resourceUrlProvider,
+                                  @Value("${member.list.stream-chunk-size:200}") int chunkSize) {
+        this.templateEngine = templateEngine;
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * 전체 사용자 화면 렌더링
+     *
+     * @param users 사용자 아이디 순으로 정렬된 회원 목록 Stream(MemberService.readAllUsers)
+     * @param out   응답 본문
+     * @return 렌더링한 행 수
+     */
+    public long render(Stream<MemberSummary> users, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ChunkFlushingIterator rows = new ChunkFlushingIterator(users.iterator(), writer, chunkSize);
+
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("users", rows);
+        context.setVariable("styleUrl", staticUrl("/bundle/main.css"));
+        context.setVariable("scriptUrl", staticUrl("/bundle/main.js"));
+        context.setVariable("faviconUrl", staticUrl("/favicon.ico"));
+        templateEngine.process(TEMPLATE, context, writer);
+        flush(writer);
+        return rows.count;
+    }
+
+    private String staticUrl(String path) {
+        String url = resourceUrlProvider.getForLookupPath(path);
+        return url != null ? url : path;
+    }
+
+    private static void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * chunkSize 행마다(첫 행 전 포함) 다음 행을 읽기 전에 writer를 flush 하는 Iterator
+     */
+    static final class ChunkFlushingIterator implements Iterator<MemberSummary> {
+        private final Iterator<MemberSummary> delegate;
+        private final Writer writer;
+        private final int chunkSize;
+        private long count;
+
+        ChunkFlushingIterator(Iterator<MemberSummary> delegate, Writer writer, int chunkSize) {
+            this.delegate = delegate;
+            this.writer = writer;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (count % chunkSize == 0) {
+                flush(writer);
+            }
+            return delegate.hasNext();
+        }
+
+        @Override
+        public MemberSummary next() {
+            count++;
+            return delegate.next();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package net.datasa.firstproject.controller;
+
+import net.datasa.firstproject.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * UserTableFragmentCache
+ * - 사용자 목록 화면의 표 조각(view/member/user-table)을 렌더링한 HTML을 memberListFragments 캐시에 보관합니다.
+ * - 키는 테이블 버전(MemberTableVersion)과 목록 경로/페이지 파라미터이므로, 가입이 없는 동안 같은 페이지 요청은
+ *   목록/count 조회와 표 렌더링 없이 캐시된 HTML로 응답합니다.
+ * - 표 조각은 요청과 무관한 Context로 렌더링하므로 템플릿에서 요청 정보(@{...} 링크 등)를 사용하지 않습니다.
+ */
+@Component
+public class UserTableFragmentCache {
+    static final String TEMPLATE = "view/member/user-table";
+
+    private final Cache cache;
+    private final ITemplateEngine templateEngine;
+
+    /**
+     * 표 조각 캐시 키
+     *
+     * @param version  테이블 버전(MemberTableVersion.Version.key)
+     * @param listPath 목록 경로(/member/list, /member/test)
+     * @param page     페이지 번호(오프셋 방식)
+     * @param size     페이지 크기
+     * @param after    직전 페이지의 마지막 사용자 아이디(키셋 방식)
+     * @param offset   키셋 방식에서 번호 표시를 위한 앞선 행 수
+     */
+    public record Key(String version, String listPath, int page, int size, String after, long offset) {
+    }
+
+    @Autowired
+    /**
+     * 생성자 주입
+     *
+     * @param cacheManager   memberListFragments 캐시를 제공하는 캐시 매니저
+     * @param templateEngine 표 조각을 렌더링할 템플릿 엔진
+     */
+    public UserTableFragmentCache(CacheManager cacheManager, ITemplateEngine templateEngine) {
+        this.cache = cacheManager.getCache(CacheConfig.MEMBER_LIST_FRAGMENTS);
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * 캐시된 표 조각 조회
+     *
+     * @return 렌더링된 HTML, 없으면 null
+     */
+    public String get(Key key) {
+        return cache != null ? cache.get(key, String.class) : null;
+    }
+
+    /**
+     * 표 조각을 렌더링하여 캐시에 저장
+     *
+     * @param key       캐시 키
+     * @param variables 템플릿 변수(사용자 목록 모델 속성)
+     * @return 렌더링된 HTML
+     */
+    public String render(Key key, Map<String, Object> variables) {
+        String html = templateEngine.process(TEMPLATE, new Context(Locale.KOREAN, variables));
+        if (cache != null) {
+            cache.put(key, html);
+        }
+        return html;
+    }
+}
@@ -0,0 +1,26 @@
+package net.datasa.firstproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * MemberBulkResultDTO
+ * - 일괄 회원가입(bulk) 요청에서 행 하나의 처리 결과를 전달하기 위한 데이터 전송 객체입니다.
+ * - index는 요청 리스트에서의 위치(0부터)이며, 실패 시 message에 검증 실패 사유가 담깁니다.
+ */
+@Data
+@AllArgsConstructor
+public class MemberBulkResultDTO {
+    private int index;
+    private String userId;
+    private boolean success;
+    private String message;
+
+    public static MemberBulkResultDTO success(int index, String userId) {
+        return new MemberBulkResultDTO(index, userId, true, null);
+    }
+
+    public static MemberBulkResultDTO failure(int index, String userId, String message) {
+        return new MemberBulkResultDTO(index, userId, false, message);
+    }
+}
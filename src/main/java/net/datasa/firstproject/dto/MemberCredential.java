@@ -0,0 +1,16 @@
+package net.datasa.firstproject.dto;
+
+/**
+ * MemberCredential
+ * - 로그인 인증에 필요한 컬럼만 담는 읽기 전용 인터페이스 프로젝션입니다.
+ * - memberCredentials 캐시에 보관되며, confirm_password 컬럼은 조회하지 않습니다.
+ */
+public interface MemberCredential {
+    String getUserId();
+
+    String getUserName();
+
+    String getPassword();
+
+    String getPhoneNumber();
+}
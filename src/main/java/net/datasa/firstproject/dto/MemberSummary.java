@@ -0,0 +1,15 @@
+package net.datasa.firstproject.dto;
+
+/**
+ * MemberSummary
+ * - 사용자 목록 화면에서 사용하는 읽기 전용 인터페이스 프로젝션입니다.
+ * - Spring Data JPA가 user_id, user_name, phone_number 세 컬럼만 SELECT 하므로
+ *   비밀번호 컬럼은 조회되지 않고, 영속성 컨텍스트에 엔티티가 적재되지도 않습니다.
+ */
+public interface MemberSummary {
+    String getUserId();
+
+    String getUserName();
+
+    String getPhoneNumber();
+}
@@ -0,0 +1,18 @@
+package net.datasa.firstproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * UserIdCheckDTO
+ * - 아이디 사용 가능 여부 확인(check-id) 결과를 전달하기 위한 데이터 전송 객체입니다.
+ * - valid는 아이디 형식 검증 통과 여부, available은 형식이 올바르고 아직 사용 중이 아닌지 여부입니다.
+ */
+@Data
+@AllArgsConstructor
+public class UserIdCheckDTO {
+    private String userId;
+    private boolean valid;
+    private boolean available;
+    private String message;
+}
@@ -3,19 +3,33 @@ package net.datasa.firstproject.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 /**
  * MemberEntity
  * - project_user 테이블과 매핑되는 JPA 엔티티입니다.
  * - 샘플 단계로 password/confirm_password 컬럼을 모두 보유하고 있으며,
  *   추후 confirm_password 컬럼은 제거/리팩토링될 수 있습니다.
+ * - 비밀번호 컬럼에는 BCrypt 해시(60자)를 저장하며, 평문으로 저장된 이전 데이터는 로그인 시 해시로 교체됩니다.
+ * - 비밀번호 컬럼은 로그에 남지 않도록 toString()에서 제외합니다.
+ * - 아이디(@Id)를 직접 할당하므로 Persistable을 구현하여 새 엔티티임을 알립니다.
+ *   덕분에 save() 시 merge(SELECT 후 INSERT)가 아닌 persist(INSERT)만 실행됩니다.
  */
 @Data
 @Entity
-@Table(name = "project_user")
-public class MemberEntity {
+@Table(name = "project_user", indexes = @Index(name = "idx_project_user_phone_number", columnList = "phone_number"))
+public class MemberEntity implements Persistable<String> {
     @Id
     @Column(name = "user_id", nullable = false, unique = true)
     private String userId; // 사용자 아이디
@@ -23,12 +37,40 @@ public class MemberEntity {
     @Column(name = "user_name", nullable = false)
     private String userName; // 사용자 이름(본명)
 
-    @Column(name = "password", nullable = false)
-    private String password; // 사용자 비밀번호
+    @Column(name = "password", nullable = false, length = 100)
+    @ToString.Exclude
+    private String password; // 사용자 비밀번호(BCrypt 해시, 이전 데이터는 평문)
 
-    @Column(name = "confirm_password", nullable = false)
-    private String confirmPassword; // 사용자 비밀번호 확인
+    @Column(name = "confirm_password", nullable = false, length = 100)
+    @ToString.Exclude
+    private String confirmPassword; // 사용자 비밀번호 확인(password와 같은 해시)
 
     @Column(name = "phone_number", nullable = false)
-    private String phoneNumber; // 사용자 휴대전화번호
+    private String phoneNumber; // 사용자 휴대전화번호(010-1234-5678 형태로 정규화하여 저장)
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true; // 신규 엔티티 여부(DB 조회/저장 이후 false)
+
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * DB에서 조회했거나 저장이 끝난 엔티티는 더 이상 새 엔티티가 아닙니다.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
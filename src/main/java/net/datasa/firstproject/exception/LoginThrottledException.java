@@ -0,0 +1,27 @@
+package net.datasa.firstproject.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * LoginThrottledException
+ * - 같은 아이디 또는 같은 IP에서 짧은 시간에 로그인 시도가 너무 많아 거절할 때 발생하는 예외입니다.
+ * - 인증 실패가 아니므로 ValidationException을 상속하지 않으며, 429 응답으로 변환됩니다.
+ * - 요청마다 발생할 수 있으므로 stack trace를 기록하지 않습니다.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class LoginThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    /**
+     * @param retryAfterSeconds 다음 시도가 허용되기까지 남은 시간(초)
+     */
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package net.datasa.firstproject.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * ServiceBusyException
+ * - 비밀번호 해시 풀 등 제한된 자원이 포화 상태여서 요청을 바로 거절할 때 발생하는 예외입니다.
+ * - 유효성 검증 실패가 아니므로 ValidationException을 상속하지 않으며, 503 응답으로 변환됩니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -4,10 +4,20 @@ package net.datasa.firstproject.exception;
  * ValidationException
  * - 회원 정보 유효성 검증 실패 시 발생하는 예외의 최상위 클래스입니다.
  * - 모든 구체적인 유효성 검증 예외는 이 클래스를 상속받습니다.
+ * - 검증 실패는 사용자 입력 오류이므로 기본적으로 stack trace를 기록하지 않습니다(writableStackTrace=false).
+ *   stack trace와 suppressed 예외가 없어 변경 불가능하므로, 메시지가 고정된 인스턴스는 미리 만들어 재사용할 수 있습니다.
  */
 public class ValidationException extends RuntimeException {
 
     public ValidationException(String message) {
-        super(message);
+        this(message, false);
+    }
+
+    /**
+     * @param message            예외 메시지
+     * @param writableStackTrace stack trace 기록 여부(디버깅 용도로만 true)
+     */
+    protected ValidationException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
     }
 }
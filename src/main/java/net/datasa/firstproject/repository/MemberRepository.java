@@ -1,11 +1,29 @@
 package net.datasa.firstproject.repository;
 
+import jakarta.persistence.QueryHint;
+import net.datasa.firstproject.config.CacheConfig;
+import net.datasa.firstproject.dto.MemberCredential;
+import net.datasa.firstproject.dto.MemberSummary;
 import net.datasa.firstproject.entity.MemberEntity;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * MemberRepository
@@ -22,10 +40,113 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String> {
      */
     Optional<MemberEntity> findByUserId(String userId);
 
+    /**
+     * 사용자 아이디로 로그인 인증 정보 조회(캐시)
+     * - 결과를 memberCredentials 캐시에 보관하며, 존재하지 않는 아이디도 짧게 캐시합니다(negative cache).
+     * - 회원가입/비밀번호 변경 시 해당 아이디의 캐시 항목을 비워야 합니다.
+     * @param userId 사용자 아이디
+     * @return 로그인 인증 정보 프로젝션 Optional
+     */
+    @Cacheable(cacheNames = CacheConfig.MEMBER_CREDENTIALS)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberCredential> findCredentialByUserId(String userId);
+
+    /**
+     * 비밀번호 교체(재해시)
+     * - 저장된 비밀번호가 currentPassword와 같을 때만 password/confirm_password를 newPassword로 바꿉니다.
+     *   동시에 다른 요청이 먼저 교체했다면 0건이 갱신됩니다.
+     * - 해당 아이디의 memberCredentials 캐시 항목을 비웁니다.
+     * @param userId          사용자 아이디
+     * @param currentPassword 현재 저장된 비밀번호
+     * @param newPassword     새 비밀번호(해시)
+     * @return 갱신된 행 수(0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_CREDENTIALS, key = "#p0")
+    @Query("update MemberEntity m set m.password = :newPassword, m.confirmPassword = :newPassword " +
+            "where m.userId = :userId and m.password = :currentPassword")
+    int updatePassword(@Param("userId") String userId,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
     /**
      * 사용자 아이디 중복 검사
      * @param userId 사용자 아이디
      * @return 존재 여부
      */
     boolean existsByUserId(String userId);
+
+    /**
+     * 주어진 아이디 중 이미 존재하는 아이디 조회(일괄 중복 검사)
+     * - 아이디마다 existsByUserId를 호출하는 대신 IN 쿼리 한 번으로 확인합니다.
+     * @param userIds 검사할 사용자 아이디 목록
+     * @return 이미 존재하는 사용자 아이디 리스트
+     */
+    @Query("select m.userId from MemberEntity m where m.userId in :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * 전체 회원 목록 조회(읽기 전용 프로젝션)
+     * - 목록에 필요한 세 컬럼만 조회하며, 비밀번호 컬럼은 SELECT 하지 않습니다.
+     * @return 회원 목록 프로젝션 리스트
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<MemberSummary> findAllProjectedByOrderByUserIdAsc();
+
+    /**
+     * 휴대전화번호로 회원 조회(읽기 전용 프로젝션)
+     * - phone_number 인덱스(idx_project_user_phone_number)를 사용합니다.
+     * @param phoneNumber 정규화된 휴대전화번호(010-1234-5678 형태)
+     * @return 회원 목록 프로젝션 리스트
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<MemberSummary> findByPhoneNumberOrderByUserIdAsc(String phoneNumber);
+
+    /**
+     * 오프셋 기반 페이지 조회(읽기 전용 프로젝션)
+     * - Page가 아닌 Slice를 반환하므로 페이지마다 count 쿼리가 실행되지 않습니다.
+     * - 전체 건수는 별도의 (캐시된) count 쿼리로 조회합니다.
+     * @param pageable 페이지 번호/크기/정렬 정보
+     * @return 회원 목록 프로젝션 Slice
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<MemberSummary> findAllBy(Pageable pageable);
+
+    /**
+     * 키셋(Keyset) 기반 조회
+     * - 기준 아이디(user_id)보다 큰 회원을 아이디 오름차순으로 limit 건 조회합니다.
+     * - PK 인덱스를 그대로 타므로 OFFSET 없이 깊은 페이지도 일정한 비용으로 조회할 수 있습니다.
+     * @param userId 직전 페이지의 마지막 사용자 아이디
+     * @param limit  최대 조회 건수
+     * @return 회원 목록 프로젝션 리스트
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<MemberSummary> findByUserIdGreaterThanOrderByUserIdAsc(String userId, Limit limit);
+
+    /**
+     * 전체 회원 스트리밍 조회(읽기 전용 프로젝션)
+     * - fetch size를 Integer.MIN_VALUE로 지정하여 MySQL 드라이버가 결과를 한 행씩 스트리밍하도록 합니다.
+     * - 결과 전체를 메모리에 적재하지 않으므로 테이블 크기와 무관하게 힙 사용량이 일정합니다.
+     * - 반드시 트랜잭션 안에서 호출하고, 사용 후 Stream을 닫아야 커넥션이 반환됩니다.
+     * @return 회원 목록 프로젝션 Stream
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MemberSummary> streamAllByOrderByUserIdAsc();
+
+    /**
+     * 전체 사용자 아이디 스트리밍 조회(key-only scan)
+     * - 아이디 인덱스(MemberIdIndex) 준비 시 PK 컬럼만 읽어 한 행씩 전달합니다.
+     * - 반드시 트랜잭션 안에서 호출하고, 사용 후 Stream을 닫아야 합니다.
+     * @return 사용자 아이디 Stream
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m.userId from MemberEntity m")
+    Stream<String> streamAllUserIds();
 }
@@ -0,0 +1,72 @@
+package net.datasa.firstproject.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MemberSchemaMigration
+ * - member.schema.migrate=true일 때만(기본 false) 기동 중(요청을 받기 전) project_user의 비밀번호 컬럼 길이를 확인하여,
+ *   BCrypt 해시(60자)를 저장할 수 없는 이전 스키마(VARCHAR(50))이면 VARCHAR(100)으로 확장합니다.
+ * - 스키마 변경의 기본 경로는 INITIALIZE.sql의 ALTER입니다. 이 빈은 ALTER 권한이 있는 계정으로
+ *   로컬/개발 DB를 한 번 맞출 때 쓰며, 운영(prod)에서는 켜지 않습니다.
+ * - 확장하지 않으면 모든 회원가입이 컬럼 길이 초과로 실패하고, 평문 비밀번호 사용자의 재해시도 실패합니다.
+ *   ddl-auto=validate는 컬럼 길이를 검사하지 않으므로 여기서 처리합니다.
+ * - 이미 확장된 스키마에서는 information_schema 조회 한 번으로 끝나며, ALTER가 실패하면 기동을 중단합니다.
+ */
+@Slf4j
+@Component
+public class MemberSchemaMigration implements InitializingBean {
+    // BCrypt 해시 길이
+    static final int BCRYPT_HASH_LENGTH = 60;
+
+    static final String PASSWORD_COLUMN_LENGTH_SQL =
+            "select min(character_maximum_length) from information_schema.columns " +
+            "where table_schema = database() and table_name = 'project_user' " +
+            "and column_name in ('password', 'confirm_password')";
+
+    static final String WIDEN_PASSWORD_COLUMNS_SQL =
+            "alter table project_user " +
+            "modify password varchar(100) not null, " +
+            "modify confirm_password varchar(100) not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    @Autowired
+    /**
+     * 생성자 주입
+     *
+     * @param jdbcTemplate 스키마 조회/변경에 사용하는 JdbcTemplate
+     * @param enabled      비밀번호 컬럼 확장 여부(member.schema.migrate)
+     */
+    public MemberSchemaMigration(JdbcTemplate jdbcTemplate, @Value("${member.schema.migrate:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            log.debug("[MemberSchemaMigration] 비밀번호 컬럼 확인 생략(member.schema.migrate=false)");
+            return;
+        }
+
+        Integer length = jdbcTemplate.queryForObject(PASSWORD_COLUMN_LENGTH_SQL, Integer.class);
+        if (length == null) {
+            log.warn("[MemberSchemaMigration] project_user 비밀번호 컬럼을 찾을 수 없습니다(INITIALIZE.sql 참고).");
+            return;
+        }
+        if (length >= BCRYPT_HASH_LENGTH) {
+            return;
+        }
+
+        log.warn("[MemberSchemaMigration] 비밀번호 컬럼 길이({})가 BCrypt 해시({}자)보다 짧아 VARCHAR(100)으로 확장합니다.",
+                length, BCRYPT_HASH_LENGTH);
+        jdbcTemplate.execute(WIDEN_PASSWORD_COLUMNS_SQL);
+        log.info("[MemberSchemaMigration] 비밀번호 컬럼 확장 완료");
+    }
+}
@@ -0,0 +1,156 @@
+package net.datasa.firstproject.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datasa.firstproject.exception.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * LoginThrottle
+ * - 로그인 시도를 아이디별/클라이언트 IP별로 제한하여 무차별 대입(credential stuffing)이
+ *   DB 조회와 BCrypt 연산으로 이어지지 않도록 합니다. 컨트롤러에서 인증 전에 호출합니다.
+ * - 키마다 GCRA(Generic Cell Rate Algorithm) 토큰 버킷을 AtomicLong 하나(다음 허용 시각, TAT)로 표현하고
+ *   CAS로 갱신하므로 잠금 없이 동작합니다.
+ *   - 발행 간격(T) = period / limit, 허용 버스트 = limit
+ *   - 시도 시각 now에서 max(TAT, now) + T - now > period 이면 거절, 아니면 TAT를 갱신하고 허용
+ * - 아이디 버킷의 키는 소문자로 바꾼 아이디입니다. user_id는 대소문자를 구분하지 않는 collation이므로
+ *   "Admin", "ADMIN", "admin"은 같은 계정이며 시도 횟수도 함께 셉니다.
+ * - 버킷은 Caffeine 캐시에 보관하며 최대 키 수와 미사용 만료 시간(period)으로 메모리를 제한합니다.
+ *   - 미사용 만료(period): 만료된 버킷은 다시 가득 찬 상태와 같으므로 제한 결과가 달라지지 않습니다.
+ *   - 최대 키 수: period 안에 maximum-keys보다 많은 키가 쓰이면 아직 사용 중인 버킷도 제거되어 초기화될 수 있습니다.
+ *     (예: 서로 다른 아이디를 대량으로 시도하여 특정 아이디의 버킷을 밀어내기) 한 IP가 만들 수 있는 키 수는
+ *     IP 제한으로 묶이므로, maximum-keys는 period 동안 예상되는 고유 아이디/IP 수보다 넉넉하게 둡니다.
+ * - 거절 횟수는 member.login.throttled{key=user|ip} 카운터로 기록합니다.
+ */
+@Component
+public class LoginThrottle {
+    private final Cache<String, AtomicLong> userBuckets;
+    private final Cache<String, AtomicLong> ipBuckets;
+    private final long userIntervalNanos;
+    private final long userPeriodNanos;
+    private final long ipIntervalNanos;
+    private final long ipPeriodNanos;
+    private final LongSupplier nanoClock;
+
+    private final Counter throttledUsers;
+    private final Counter throttledIps;
+
+    @Autowired
+    /**
+     * 생성자 주입
+     *
+     * @param meterRegistry 거절 카운터를 등록할 MeterRegistry
+     * @param userLimit     아이디별 period 동안 허용하는 시도 수(버스트 포함)
+     * @param userPeriod    아이디별 제한 기간
+     * @param ipLimit       IP별 period 동안 허용하는 시도 수(버스트 포함)
+     * @param ipPeriod      IP별 제한 기간
+     * @param maximumKeys   아이디/IP 각각 보관하는 최대 버킷 수(초과 시 사용 중인 버킷도 제거될 수 있음)
+     */
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${member.login-throttle.user.limit:10}") int userLimit,
+            @Value("${member.login-throttle.user.period:1m}") Duration userPeriod,
+            @Value("${member.login-throttle.ip.limit:60}") int ipLimit,
+            @Value("${member.login-throttle.ip.period:1m}") Duration ipPeriod,
+            @Value("${member.login-throttle.maximum-keys:100000}") long maximumKeys
+    ) {
+        this(meterRegistry, userLimit, userPeriod, ipLimit, ipPeriod, maximumKeys, System::nanoTime);
+    }
+
+    /**
+     * 시계를 지정하는 생성자(테스트용)
+     */
+    LoginThrottle(MeterRegistry meterRegistry, int userLimit, Duration userPeriod, int ipLimit, Duration ipPeriod,
+                  long maximumKeys, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        userPeriodNanos = userPeriod.toNanos();
+        userIntervalNanos = userPeriodNanos / Math.max(userLimit, 1);
+        ipPeriodNanos = ipPeriod.toNanos();
+        ipIntervalNanos = ipPeriodNanos / Math.max(ipLimit, 1);
+
+        userBuckets = newBuckets(maximumKeys, userPeriod);
+        ipBuckets = newBuckets(maximumKeys, ipPeriod);
+
+        throttledUsers = Counter.builder("member.login.throttled").tag("key", "user")
+                .description("로그인 시도 제한으로 거절한 횟수(key: 제한 기준)").register(meterRegistry);
+        throttledIps = Counter.builder("member.login.throttled").tag("key", "ip")
+                .description("로그인 시도 제한으로 거절한 횟수(key: 제한 기준)").register(meterRegistry);
+    }
+
+    private static Cache<String, AtomicLong> newBuckets(long maximumKeys, Duration period) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * 로그인 시도 1회 허용 여부 확인
+     * - IP 버킷을 먼저 확인하므로 한 IP에서 여러 아이디를 번갈아 시도해도 제한됩니다.
+     *
+     * @param userId   시도한 아이디(null/공백이면 IP만 확인)
+     * @param clientIp 클라이언트 IP(null이면 아이디만 확인)
+     * @throws LoginThrottledException 제한을 넘은 경우
+     */
+    public void acquire(String userId, String clientIp) {
+        long now = nanoClock.getAsLong();
+
+        if (clientIp != null) {
+            long waitNanos = tryAcquire(ipBuckets, clientIp, now, ipIntervalNanos, ipPeriodNanos);
+            if (waitNanos > 0) {
+                throttledIps.increment();
+                throw new LoginThrottledException(toRetryAfterSeconds(waitNanos));
+            }
+        }
+        if (!MemberValidator.isBlank(userId)) {
+            long waitNanos = tryAcquire(userBuckets, userId.toLowerCase(Locale.ROOT), now, userIntervalNanos, userPeriodNanos);
+            if (waitNanos > 0) {
+                throttledUsers.increment();
+                throw new LoginThrottledException(toRetryAfterSeconds(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * GCRA 버킷에서 토큰 1개 획득 시도
+     *
+     * @return 0이면 허용, 양수이면 거절(다음 허용까지 남은 나노초)
+     */
+    static long tryAcquire(Cache<String, AtomicLong> buckets, String key, long now, long intervalNanos, long periodNanos) {
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - periodNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수(아이디 + IP, 테스트/진단용)
+     */
+    long bucketCount() {
+        userBuckets.cleanUp();
+        ipBuckets.cleanUp();
+        return userBuckets.estimatedSize() + ipBuckets.estimatedSize();
+    }
+}
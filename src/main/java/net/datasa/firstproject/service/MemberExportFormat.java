@@ -0,0 +1,146 @@
+package net.datasa.firstproject.service;
+
+import net.datasa.firstproject.dto.MemberSummary;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * MemberExportFormat
+ * - 회원 전체 내보내기(export)에서 지원하는 출력 형식입니다.
+ * - 한 행씩 Writer에 바로 기록하므로 전체 목록을 메모리에 모으지 않습니다.
+ */
+public enum MemberExportFormat {
+
+    /**
+     * CSV(RFC 4180) - 첫 줄에 헤더를 기록합니다.
+     */
+    CSV("text/csv; charset=UTF-8", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("user_id,user_name,phone_number\r\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, MemberSummary row) throws IOException {
+            writeCsvField(writer, row.getUserId());
+            writer.write(',');
+            writeCsvField(writer, row.getUserName());
+            writer.write(',');
+            writeCsvField(writer, row.getPhoneNumber());
+            writer.write("\r\n");
+        }
+    },
+
+    /**
+     * NDJSON(Newline Delimited JSON) - 한 줄에 JSON 객체 하나를 기록합니다.
+     */
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+            // NDJSON은 헤더가 없습니다.
+        }
+
+        @Override
+        void writeRow(Writer writer, MemberSummary row) throws IOException {
+            writer.write("{\"userId\":");
+            writeJsonString(writer, row.getUserId());
+            writer.write(",\"userName\":");
+            writeJsonString(writer, row.getUserName());
+            writer.write(",\"phoneNumber\":");
+            writeJsonString(writer, row.getPhoneNumber());
+            writer.write("}\n");
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    MemberExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, MemberSummary row) throws IOException;
+
+    /**
+     * 요청 파라미터(csv, ndjson)를 형식으로 변환
+     *
+     * @param value 요청 파라미터 값(대소문자 무시)
+     * @return 일치하는 형식, 없으면 null
+     */
+    public static MemberExportFormat from(String value) {
+        for (MemberExportFormat format : values()) {
+            if (format.fileExtension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * CSV 필드 기록 - 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * JSON 문자열 기록 - 따옴표, 역슬래시, 제어 문자를 이스케이프합니다.
+     */
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
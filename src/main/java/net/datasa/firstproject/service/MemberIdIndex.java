@@ -0,0 +1,198 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.datasa.firstproject.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * MemberIdIndex
+ * - 가입된 사용자 아이디(user_id)의 메모리 내 Bloom filter 인덱스입니다.
+ * - mightContain()이 false이면 해당 아이디는 "확실히 미사용"이므로 DB를 조회하지 않아도 됩니다.
+ *   true이면 "사용 중일 수 있음"이므로 DB로 확인해야 합니다(오탐 가능, 미탐 없음).
+ * - 애플리케이션 기동 후 project_user의 아이디만 스트리밍 조회하여 채우고, 가입 성공 시마다 추가됩니다.
+ * - 준비(warm-up)가 끝나기 전에는 항상 true를 반환하여 DB 확인으로 넘깁니다.
+ * - 아이디는 삭제되지 않는다는 전제로 동작합니다(Bloom filter는 제거를 지원하지 않습니다).
+ * - user_id 컬럼은 대소문자를 구분하지 않는 collation이므로 아이디를 소문자로 바꾸어 해시합니다("ABC"와 "abc"는 같은 아이디).
+ * - 인덱스는 노드(프로세스)별이므로 다른 노드에서 가입한 아이디는 다음 기동 전까지 반영되지 않습니다.
+ *   "미사용" 응답은 안내(아이디 확인 화면)에만 사용하고, 저장 여부는 DB(PK 제약조건, IN 쿼리)로 판단합니다.
+ */
+@Slf4j
+@Component
+public class MemberIdIndex {
+    private final MemberRepository memberRepository;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+    private volatile boolean ready;
+
+    private final Counter absentLookups;
+    private final Counter maybeLookups;
+    private final Counter notReadyLookups;
+    private final Counter falsePositives;
+
+    @Autowired
+    /**
+     * 생성자 주입
+     * - 예상 아이디 수와 목표 오탐률로 비트 배열 크기와 해시 함수 개수를 계산합니다.
+     *
+     * @param repository               아이디 스캔에 사용하는 리포지토리 빈
+     * @param meterRegistry            조회 결과/오탐 지표를 등록할 MeterRegistry
+     * @param expectedInsertions       예상 아이디 수
+     * @param falsePositiveProbability 목표 오탐률(0~1)
+     */
+    public MemberIdIndex(
+            MemberRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${member.id-index.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${member.id-index.false-positive-probability:0.01}") double falsePositiveProbability
+    ) {
+        memberRepository = repository;
+
+        // m = -n·ln(p) / (ln 2)², k = (m / n)·ln 2
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        bitSize = Math.max(64, (m + 63) / 64 * 64);
+        hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        bits = new AtomicLongArray((int) (bitSize / 64));
+
+        absentLookups = Counter.builder("member.id_index.lookups").tag("result", "absent")
+                .description("아이디 인덱스 조회 결과(absent: DB 조회 생략)").register(meterRegistry);
+        maybeLookups = Counter.builder("member.id_index.lookups").tag("result", "maybe")
+                .description("아이디 인덱스 조회 결과(maybe: DB 확인 필요)").register(meterRegistry);
+        notReadyLookups = Counter.builder("member.id_index.lookups").tag("result", "not_ready")
+                .description("아이디 인덱스 조회 결과(not_ready: 준비 전이라 DB 확인)").register(meterRegistry);
+        falsePositives = Counter.builder("member.id_index.false_positives")
+                .description("maybe 응답 후 DB 확인 결과 미사용이었던 횟수").register(meterRegistry);
+        Gauge.builder("member.id_index.expected_fpp", this, MemberIdIndex::expectedFalsePositiveProbability)
+                .description("현재 비트 채움률 기준 예상 오탐률").register(meterRegistry);
+
+        log.debug("[MemberIdIndex] 생성 - bits: {}, hashes: {}", bitSize, hashCount);
+    }
+
+    /**
+     * 기동 완료 후 인덱스 채우기(warm-up)
+     * - 아이디 컬럼만 스트리밍 조회(key-only scan)하여 모든 아이디를 추가합니다.
+     * - 실패하면 준비 상태가 되지 않으며, 이후 조회는 모두 DB 확인으로 넘어갑니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.nanoTime();
+        long count = 0;
+
+        try (Stream<String> userIds = memberRepository.streamAllUserIds()) {
+            Iterator<String> iterator = userIds.iterator();
+            while (iterator.hasNext()) {
+                add(iterator.next());
+                count++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MemberIdIndex.warmUp] 인덱스 준비 실패 - DB 조회로 대체합니다. {}", e.getMessage());
+            return;
+        }
+
+        ready = true;
+        log.info("[MemberIdIndex.warmUp] 인덱스 준비 완료 - ids: {}, elapsed: {}ms, expectedFpp: {}",
+                count, (System.nanoTime() - start) / 1_000_000, expectedFalsePositiveProbability());
+    }
+
+    /**
+     * 아이디가 사용 중일 가능성 조회
+     *
+     * @param userId 사용자 아이디
+     * @return false이면 확실히 미사용, true이면 사용 중일 수 있음(DB 확인 필요)
+     */
+    public boolean mightContain(String userId) {
+        if (!ready) {
+            notReadyLookups.increment();
+            return true;
+        }
+
+        long hash = hash64(userId);
+        long hash2 = mix64(hash + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * hash2, bitSize);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                absentLookups.increment();
+                return false;
+            }
+        }
+        maybeLookups.increment();
+        return true;
+    }
+
+    /**
+     * 아이디 추가(가입 성공 시 호출)
+     *
+     * @param userId 사용자 아이디
+     */
+    public void add(String userId) {
+        long hash = hash64(userId);
+        long hash2 = mix64(hash + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * hash2, bitSize);
+            long mask = 1L << bit;
+            long previous = bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            if ((previous & mask) == 0) {
+                setBitCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 오탐 기록 - mightContain()이 true였지만 DB에 아이디가 없었을 때 호출합니다.
+     * 준비 전 응답은 Bloom filter의 판단이 아니므로 집계하지 않습니다.
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 인덱스 준비 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 비트 채움률 기준 예상 오탐률: (채워진 비트 비율)^k
+     */
+    double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashCount);
+    }
+
+    /**
+     * 소문자로 바꾼 문자열의 64비트 해시(FNV-1a + murmur3 fmix64)
+     */
+    private static long hash64(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= Character.toLowerCase(value.charAt(i));
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -1,28 +1,92 @@
 package net.datasa.firstproject.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import net.datasa.firstproject.config.CacheConfig;
+import net.datasa.firstproject.dto.MemberBulkResultDTO;
+import net.datasa.firstproject.dto.MemberCredential;
 import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.dto.UserIdCheckDTO;
 import net.datasa.firstproject.entity.MemberEntity;
 import net.datasa.firstproject.exception.*;
 import net.datasa.firstproject.repository.MemberRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+/**
+ * MemberService
+ * - 회원가입/로그인/사용자 조회 비즈니스 로직을 담당합니다.
+ * - 모든 public 메서드는 member.service 타이머(method, outcome 태그, 백분위 히스토그램)로 측정됩니다.
+ *   outcome은 성공 시 success, 실패 시 예외 클래스 이름(InvalidUserIdException 등)입니다(MetricsConfig 참고).
+ * - 로그인 실패(member.login.failures)와 아이디 중복(member.register.duplicates)은 사유별 카운터로 기록합니다.
+ */
 @Slf4j
 @Service
+@Timed(value = "member.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final MemberIdIndex memberIdIndex;
+    private final PasswordHasher passwordHasher;
+    private final MemberValidator memberValidator;
+    private final MemberTableVersion tableVersion;
 
-    // 정규식 패턴
-    private static final Pattern USER_ID_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{3,14}$");
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{8,14}$");
-    private static final Pattern USER_NAME_PATTERN = Pattern.compile("^[가-힣]{2,20}$");
-    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[0-9]{10,11}$");
+    private final Counter loginMissingFields;
+    private final Counter loginUnknownUsers;
+    private final Counter loginBadPasswords;
+    private final Counter duplicatesOnRegister;
+    private final Counter duplicatesOnBulk;
+    private final Counter duplicatesOnCheck;
+
+    // 사용자 목록 페이지 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 일괄 저장 시 한 번에 INSERT 하는 행 수(spring.jpa.properties.hibernate.jdbc.batch_size와 동일)
+    public static final int BULK_CHUNK_SIZE = 500;
+
+    // 내보내기(export) 시 소켓으로 flush 하는 행 단위
+    private static final int EXPORT_FLUSH_ROWS = 1_000;
+
+    // MySQL 중복 키 오류(ER_DUP_ENTRY) 코드
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    // 일괄 저장 시 중복이 아닌 제약조건 위반으로 청크 저장에 실패한 행의 메시지
+    static final String BULK_SAVE_FAILED_MESSAGE = "저장 중 오류가 발생했습니다. 관리자에게 문의해 주세요.";
 
     @Autowired
     /**
@@ -30,32 +94,59 @@ public class MemberService {
      * - 스프링이 MemberRepository 빈을 주입하여 데이터 액세스 기능을 제공합니다.
      *
      * @param repository 사용자 엔티티에 대한 CRUD를 담당하는 리포지토리 빈
+     * @param idIndex    아이디 중복 여부를 DB 조회 없이 1차 판별하는 아이디 인덱스 빈
+     * @param hasher     비밀번호 해시/대조를 전용 스레드 풀에서 수행하는 빈
+     * @param validator     회원가입 데이터 유효성 검증 빈
+     * @param tableVersion  회원가입 시 증가시키는 사용자 테이블 버전(목록 화면 ETag/캐시 키)
+     * @param meterRegistry 로그인 실패/아이디 중복 카운터를 등록할 MeterRegistry
      */
-    public MemberService(MemberRepository repository) {
+    public MemberService(MemberRepository repository, MemberIdIndex idIndex, PasswordHasher hasher, MemberValidator validator,
+                         MemberTableVersion tableVersion, MeterRegistry meterRegistry) {
         memberRepository = repository;
+        memberIdIndex = idIndex;
+        passwordHasher = hasher;
+        memberValidator = validator;
+        this.tableVersion = tableVersion;
+
+        loginMissingFields = loginFailureCounter(meterRegistry, "missing_fields");
+        loginUnknownUsers = loginFailureCounter(meterRegistry, "unknown_user");
+        loginBadPasswords = loginFailureCounter(meterRegistry, "bad_password");
+        duplicatesOnRegister = duplicateCounter(meterRegistry, "register");
+        duplicatesOnBulk = duplicateCounter(meterRegistry, "bulk");
+        duplicatesOnCheck = duplicateCounter(meterRegistry, "check");
+    }
+
+    private static Counter loginFailureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("member.login.failures").tag("reason", reason)
+                .description("로그인 실패 횟수(reason: 실패 사유)").register(meterRegistry);
+    }
+
+    private static Counter duplicateCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("member.register.duplicates").tag("source", source)
+                .description("이미 사용 중인 아이디로 가입/확인한 횟수(source: 회원가입/일괄 회원가입/아이디 확인)").register(meterRegistry);
     }
 
     /**
      * 모든 사용자 조회 메서드
-     * - DB에서 전체 사용자(Entity)를 조회하여 화면/컨트롤러 계층에서 쓰기 쉽게 DTO 리스트로 변환합니다.
-     * - 현재는 단순 매핑만 수행합니다.
+     * - DB에서 전체 사용자를 읽기 전용 프로젝션(MemberSummary)으로 조회하여 DTO 리스트로 변환합니다.
+     * - 비밀번호 컬럼은 조회하지 않으므로 DTO에도 담기지 않습니다.
      *
      * @return 전체 사용자 정보 DTO 리스트
      */
+    @Transactional(readOnly = true)
     public List<MemberDTO> findAllUser() {
         log.debug("[UserService.findAllUser] 호출 완료.");
 
-        // 1) DTO를 담을 ArrayList 생성
-        List<MemberDTO> dtoList = new ArrayList<>();
+        // 1) 프로젝션 조회 및 DTO를 담을 ArrayList 생성
+        List<MemberSummary> summaries = memberRepository.findAllProjectedByOrderByUserIdAsc();
+        List<MemberDTO> dtoList = new ArrayList<>(summaries.size());
 
-        // 2&3) 반복문으로 DTO 객체 생성해서 entity 값을 저장 및 ArrayList에 추가
-        for (MemberEntity entity : memberRepository.findAll()) {
+        // 2&3) 반복문으로 DTO 객체 생성해서 프로젝션 값을 저장 및 ArrayList에 추가
+        for (MemberSummary summary : summaries) {
             MemberDTO dto = new MemberDTO();
-            dto.setUserId(entity.getUserId());
-            dto.setUserName(entity.getUserName());
-            dto.setPassword(entity.getPassword());
-            dto.setConfirmPassword(entity.getConfirmPassword());
-            dto.setPhoneNumber(entity.getPhoneNumber());
+            dto.setUserId(summary.getUserId());
+            dto.setUserName(summary.getUserName());
+            dto.setPhoneNumber(summary.getPhoneNumber());
             dtoList.add(dto);
         }
 
@@ -63,149 +154,464 @@ public class MemberService {
         return dtoList;
     }
 
+    /**
+     * 사용자 목록 페이지 조회 메서드(오프셋 방식)
+     * - 아이디 오름차순으로 정렬된 page 번째 페이지를 조회합니다.
+     * - count 쿼리를 실행하지 않는 Slice로 조회하며, 전체 건수는 countAllUser()를 사용합니다.
+     * - 페이지 번호가 커질수록 OFFSET 비용이 증가하므로 깊은 페이지는 findUserSliceAfter()를 사용합니다.
+     *
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기(1~MAX_PAGE_SIZE 범위로 보정)
+     * @return 사용자 목록 프로젝션 Slice
+     */
+    @Transactional(readOnly = true)
+    public Slice<MemberSummary> findUserPage(int page, int size) {
+        log.debug("[MemberService.findUserPage] 호출 - page: {}, size: {}", page, size);
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), clampPageSize(size), Sort.by("userId"));
+        return memberRepository.findAllBy(pageRequest);
+    }
+
+    /**
+     * 사용자 목록 페이지 조회 메서드(키셋 방식)
+     * - afterUserId보다 큰 아이디를 가진 사용자를 아이디 오름차순으로 조회합니다(seek method).
+     * - 다음 페이지 존재 여부 확인을 위해 size + 1건을 조회한 뒤 잘라냅니다.
+     *
+     * @param afterUserId 직전 페이지의 마지막 사용자 아이디(null 또는 공백이면 처음부터)
+     * @param size        페이지 크기(1~MAX_PAGE_SIZE 범위로 보정)
+     * @return 사용자 목록 프로젝션 Slice
+     */
+    @Transactional(readOnly = true)
+    public Slice<MemberSummary> findUserSliceAfter(String afterUserId, int size) {
+        log.debug("[MemberService.findUserSliceAfter] 호출 - afterUserId: {}, size: {}", afterUserId, size);
+
+        int pageSize = clampPageSize(size);
+        String cursor = afterUserId == null ? "" : afterUserId;
+
+        List<MemberSummary> rows = memberRepository.findByUserIdGreaterThanOrderByUserIdAsc(cursor, Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberSummary> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return new SliceImpl<>(content, PageRequest.ofSize(pageSize), hasNext);
+    }
+
+    /**
+     * 휴대전화번호로 사용자 조회 메서드
+     * - 입력값을 저장 형식(010-1234-5678)으로 정규화한 뒤 phone_number 인덱스로 조회합니다.
+     * - 형식이 올바르지 않으면 DB를 조회하지 않고 빈 리스트를 반환합니다.
+     *
+     * @param phoneNumber 휴대전화번호 입력값(하이픈/공백/+82 허용)
+     * @return 해당 번호로 가입한 사용자 프로젝션 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSummary> findUsersByPhoneNumber(String phoneNumber) {
+        log.debug("[MemberService.findUsersByPhoneNumber] 호출");
+
+        String normalized = PhoneNumbers.normalize(phoneNumber);
+        if (normalized == null) {
+            return List.of();
+        }
+        return memberRepository.findByPhoneNumberOrderByUserIdAsc(normalized);
+    }
+
+    /**
+     * 전체 사용자 수 조회 메서드
+     * - 목록 화면마다 count(*)를 실행하지 않도록 결과를 memberCount 캐시에 보관합니다.
+     * - 회원가입(saveUser) 시 캐시가 비워집니다.
+     *
+     * @return 전체 사용자 수
+     */
+    @Cacheable(cacheNames = CacheConfig.MEMBER_COUNT)
+    @Transactional(readOnly = true)
+    public long countAllUser() {
+        log.debug("[MemberService.countAllUser] 호출 완료.");
+        return memberRepository.count();
+    }
+
+    /**
+     * 전체 사용자 내보내기 메서드
+     * - 스트리밍 쿼리로 한 행씩 읽어 지정한 형식(CSV/NDJSON)으로 바로 기록합니다.
+     * - 일정 행마다 flush 하여 읽는 즉시 클라이언트로 전송되며, 힙 사용량은 테이블 크기와 무관합니다.
+     * - 스트리밍 쿼리는 트랜잭션 안에서만 동작하므로 읽기 전용 트랜잭션으로 실행합니다.
+     *
+     * @param format 출력 형식
+     * @param out    결과를 기록할 출력 스트림(응답 본문)
+     * @return 기록한 행 수
+     * @throws IOException 출력 스트림 기록 실패 시
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(MemberExportFormat format, OutputStream out) throws IOException {
+        log.debug("[MemberService.exportUsers] 호출 - format: {}", format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<MemberSummary> rows = memberRepository.streamAllByOrderByUserIdAsc()) {
+            format.writeHeader(writer);
+
+            Iterator<MemberSummary> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                format.writeRow(writer, iterator.next());
+                if (++count % EXPORT_FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.debug("[MemberService.exportUsers] 내보내기 완료 - rows: {}", count);
+        return count;
+    }
+
+    /**
+     * 전체 사용자 스트리밍 조회 메서드
+     * - 스트리밍 쿼리로 한 행씩 읽는 Stream을 reader에 넘깁니다(전체 사용자 화면 렌더링 등).
+     * - reader가 반환할 때까지 읽기 전용 트랜잭션과 커넥션이 유지되며, 반환 후 Stream을 닫습니다.
+     * - 행을 리스트로 모으지 않으므로 힙 사용량은 테이블 크기와 무관합니다.
+     *
+     * @param reader 사용자 아이디 순으로 정렬된 회원 목록 Stream을 소비하는 함수
+     * @return reader의 반환값
+     */
+    @Transactional(readOnly = true)
+    public <R> R readAllUsers(Function<Stream<MemberSummary>, R> reader) {
+        log.debug("[MemberService.readAllUsers] 호출 완료.");
+        try (Stream<MemberSummary> rows = memberRepository.streamAllByOrderByUserIdAsc()) {
+            return reader.apply(rows);
+        }
+    }
+
     /**
      * 사용자 저장(회원가입) 메서드
      * - 유효성 검증 규칙을 모두 적용합니다.
-     * - 아이디 중복, 비밀번호 일치, 정규식 검증, 전화번호 포맷팅을 수행합니다.
+     * - 비밀번호 일치, 형식 검증(MemberValidator), 전화번호 포맷팅을 수행합니다.
+     * - 비밀번호는 BCrypt로 해시하여 저장합니다(해시 풀 포화 시 ServiceBusyException).
+     * - 아이디 중복은 사전 조회 없이 INSERT 시 PK 제약조건 위반으로 판단하므로,
+     *   정상 가입은 INSERT 한 번으로 끝나고 동시에 같은 아이디로 가입하는 경쟁 상황도 안전합니다.
+     *   그 밖의 제약조건 위반(컬럼 길이 초과, NOT NULL 등)은 로그를 남기고 그대로 던집니다.
+     * - 가입 성공 시 전체 사용자 수 캐시와 해당 아이디의 로그인 캐시(negative 항목)를 비우고 테이블 버전을 올립니다.
      *
      * @param dto 회원가입 폼 데이터 DTO
      * @throws IllegalArgumentException 유효성 검증 실패 시
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_COUNT, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_CREDENTIALS, key = "#dto.userId")
+    })
     public void saveUser(MemberDTO dto) {
         log.debug("[MemberService.saveUser] 호출 - userId: {}", dto != null ? dto.getUserId() : "null");
 
-        // 1) DTO null 체크
-        if (dto == null) {
-            throw new MissingFieldException("회원가입 정보가 전달되지 않았습니다.", true);
-        }
+        // 1~4) 필수 필드, 형식, 비밀번호 일치 검증
+        memberValidator.validate(dto);
 
-        // 2) 필수 필드 null/공백 체크
-        if (isNullOrEmpty(dto.getUserId())) {
-            throw new MissingFieldException("아이디를");
-        }
-        if (isNullOrEmpty(dto.getPassword())) {
-            throw new MissingFieldException("비밀번호를");
-        }
-        if (isNullOrEmpty(dto.getConfirmPassword())) {
-            throw new MissingFieldException("비밀번호 확인을");
-        }
-        if (isNullOrEmpty(dto.getUserName())) {
-            throw new MissingFieldException("이름을");
+        // 5&6) 비밀번호 해시, 전화번호 포맷팅 및 Entity 생성/매핑
+        MemberEntity entity = toEntity(dto, passwordHasher.encode(dto.getPassword()), new StringBuilder(PhoneNumbers.MAX_FORMATTED_LENGTH));
+
+        // 7) Repository를 통한 저장(persist) 및 아이디 중복 검사
+        try {
+            memberRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateUserId(e)) {
+                log.error("[MemberService.saveUser] 저장 실패 - userId: {}", dto.getUserId(), e);
+                throw e;
+            }
+            memberIdIndex.add(dto.getUserId());
+            duplicatesOnRegister.increment();
+            throw MemberValidator.DUPLICATE_USER_ID;
         }
-        if (isNullOrEmpty(dto.getPhoneNumber())) {
-            throw new MissingFieldException("휴대전화번호를");
+
+        // 8) 아이디 인덱스 갱신 및 테이블 버전 증가(사용자 목록 ETag/표 캐시 무효화)
+        memberIdIndex.add(entity.getUserId());
+        tableVersion.bump();
+
+        log.debug("[MemberService.saveUser] 저장 완료 - userId: {}", entity.getUserId());
+    }
+
+    /**
+     * 사용자 일괄 저장(대량 회원가입) 메서드
+     * - 마이그레이션 등에서 수천 건의 회원을 한 번에 등록할 때 사용합니다.
+     * - 각 행에 saveUser와 동일한 유효성 검증을 적용하고, 실패한 행은 건너뛰고 사유를 기록합니다.
+     * - 아이디 중복은 배치 내부에서 먼저 걸러낸 뒤, DB와는 IN 쿼리 한 번으로 확인합니다.
+     *   user_id는 대소문자를 구분하지 않는 collation이므로 "ABC"와 "abc"는 같은 아이디로 봅니다.
+     * - 아이디 인덱스는 노드별이라 다른 노드에서 가입한 아이디를 모르므로, 인덱스의 "미사용" 응답만으로 DB 확인을 생략하지 않습니다.
+     * - BULK_CHUNK_SIZE 단위로 saveAllAndFlush를 호출하며, 이 메서드 자체는 트랜잭션이 아니므로
+     *   청크마다 별도 트랜잭션/영속성 컨텍스트가 사용되어 JDBC 배치로 INSERT 되고 메모리도 청크 단위로 해제됩니다.
+     * - 검증과 저장 사이에 다른 요청이 같은 아이디를 등록하면 해당 청크 전체가 중복으로 실패 처리됩니다.
+     *   중복이 아닌 제약조건 위반(컬럼 길이 초과 등)은 로그를 남기고 해당 청크를 저장 오류로 실패 처리합니다.
+     * - 비밀번호는 청크 단위로 해시 풀에서 병렬로 해시하며, 해시 풀이 포화되면 해당 청크만 실패 처리됩니다.
+     * - 저장된 청크마다 테이블 버전을 올립니다.
+     *
+     * @param dtos 회원가입 데이터 DTO 리스트
+     * @return 입력 순서대로 정렬된 행별 처리 결과
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_COUNT, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_CREDENTIALS, allEntries = true)
+    })
+    public List<MemberBulkResultDTO> saveUsers(List<MemberDTO> dtos) {
+        int size = dtos == null ? 0 : dtos.size();
+        log.debug("[MemberService.saveUsers] 호출 - size: {}", size);
+
+        MemberBulkResultDTO[] results = new MemberBulkResultDTO[size];
+
+        // 1) 행별 유효성 검증 및 배치 내부 아이디 중복 제거(먼저 나온 행 우선)
+        Map<String, Integer> pendingIndexes = new LinkedHashMap<>(); // 소문자 아이디 → 행 번호
+        for (int i = 0; i < size; i++) {
+            MemberDTO dto = dtos.get(i);
+            ValidationException violation = memberValidator.findViolation(dto);
+            if (violation == null && pendingIndexes.putIfAbsent(foldUserId(dto.getUserId()), i) != null) {
+                violation = MemberValidator.DUPLICATE_USER_ID;
+                duplicatesOnBulk.increment();
+            }
+            if (violation != null) {
+                results[i] = MemberBulkResultDTO.failure(i, dto != null ? dto.getUserId() : null, violation.getMessage());
+            }
         }
 
-        // 3) 정규식 검증
-        if (!USER_ID_PATTERN.matcher(dto.getUserId()).matches()) {
-            throw new InvalidUserIdException();
+        // 2) DB 아이디 중복 검사(IN 쿼리 1회, 대소문자 구분 없이 비교)
+        List<String> candidateUserIds = new ArrayList<>(pendingIndexes.size());
+        for (int index : pendingIndexes.values()) {
+            candidateUserIds.add(dtos.get(index).getUserId());
         }
-        if (!PASSWORD_PATTERN.matcher(dto.getPassword()).matches()) {
-            throw new InvalidPasswordException();
+        Set<String> existingUserIds = new HashSet<>();
+        if (!candidateUserIds.isEmpty()) {
+            for (String existing : memberRepository.findExistingUserIds(candidateUserIds)) {
+                existingUserIds.add(foldUserId(existing));
+            }
         }
-        if (!PASSWORD_PATTERN.matcher(dto.getConfirmPassword()).matches()) {
-            throw new InvalidPasswordException("비밀번호 확인은 8~14자, 영문/숫자/특수문자만 가능합니다.");
+
+        List<Integer> saveIndexes = new ArrayList<>(pendingIndexes.size());
+        for (Map.Entry<String, Integer> pending : pendingIndexes.entrySet()) {
+            int index = pending.getValue();
+            if (existingUserIds.contains(pending.getKey())) {
+                results[index] = MemberBulkResultDTO.failure(index, dtos.get(index).getUserId(), MemberValidator.DUPLICATE_USER_ID.getMessage());
+                duplicatesOnBulk.increment();
+                continue;
+            }
+            saveIndexes.add(index);
         }
-        if (!USER_NAME_PATTERN.matcher(dto.getUserName()).matches()) {
-            throw new InvalidUserNameException();
+
+        // 3) 청크 단위 비밀번호 해시 및 저장(청크마다 JDBC 배치 INSERT 후 flush, 전화번호 포맷팅 버퍼는 재사용)
+        StringBuilder phoneBuffer = new StringBuilder(PhoneNumbers.MAX_FORMATTED_LENGTH);
+        for (int from = 0; from < saveIndexes.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, saveIndexes.size());
+            List<MemberDTO> chunkDtos = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunkDtos.add(dtos.get(saveIndexes.get(i)));
+            }
+
+            String failureMessage = null;
+            try {
+                List<String> encodedPasswords = passwordHasher.encodeAll(chunkDtos.stream().map(MemberDTO::getPassword).toList());
+                List<MemberEntity> chunk = new ArrayList<>(chunkDtos.size());
+                for (int i = 0; i < chunkDtos.size(); i++) {
+                    chunk.add(toEntity(chunkDtos.get(i), encodedPasswords.get(i), phoneBuffer));
+                }
+                memberRepository.saveAllAndFlush(chunk);
+                tableVersion.bump();
+            } catch (ServiceBusyException e) {
+                log.warn("[MemberService.saveUsers] 청크 해시 실패({}~{}) - {}", from, to - 1, e.getMessage());
+                failureMessage = e.getMessage();
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateUserId(e)) {
+                    log.warn("[MemberService.saveUsers] 청크 저장 실패({}~{}) - {}", from, to - 1, e.getMostSpecificCause().getMessage());
+                    failureMessage = MemberValidator.DUPLICATE_USER_ID.getMessage();
+                    duplicatesOnBulk.increment(to - from);
+                } else {
+                    log.error("[MemberService.saveUsers] 청크 저장 실패({}~{})", from, to - 1, e);
+                    failureMessage = BULK_SAVE_FAILED_MESSAGE;
+                }
+            }
+
+            for (int i = from; i < to; i++) {
+                int index = saveIndexes.get(i);
+                String userId = dtos.get(index).getUserId();
+                if (failureMessage == null) {
+                    memberIdIndex.add(userId);
+                }
+                results[index] = failureMessage == null
+                        ? MemberBulkResultDTO.success(index, userId)
+                        : MemberBulkResultDTO.failure(index, userId, failureMessage);
+            }
         }
-        if (!PHONE_NUMBER_PATTERN.matcher(dto.getPhoneNumber()).matches()) {
-            throw new InvalidPhoneNumberException();
+
+        if (log.isDebugEnabled()) { // 저장 건수 집계는 DEBUG일 때만
+            log.debug("[MemberService.saveUsers] 처리 완료 - 요청: {}, 저장: {}", size,
+                    Arrays.stream(results).filter(MemberBulkResultDTO::isSuccess).count());
         }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 아이디 사용 가능 여부 확인 메서드
+     * - 회원가입 화면에서 입력 중인 아이디를 확인할 때 사용합니다.
+     * - 형식이 올바르지 않으면 DB를 조회하지 않고 사용 불가로 응답합니다.
+     * - 아이디 인덱스가 "확실히 미사용"이라고 답하면 DB를 조회하지 않으며,
+     *   "사용 중일 수 있음"일 때만 existsByUserId로 확인합니다.
+     * - 여러 노드로 실행하면 다른 노드에서 방금 가입한 아이디를 "사용 가능"으로 응답할 수 있습니다(안내용).
+     *   실제 중복 여부는 회원가입 시 PK 제약조건으로 판단합니다.
+     *
+     * @param userId 확인할 사용자 아이디
+     * @return 아이디 확인 결과 DTO
+     */
+    public UserIdCheckDTO checkUserId(String userId) {
+        log.debug("[MemberService.checkUserId] 호출 - userId: {}", userId);
 
-        // 4) 비밀번호 일치 검증
-        if (!dto.getPassword().equals(dto.getConfirmPassword())) {
-            throw new PasswordMismatchException();
+        ValidationException violation = memberValidator.findUserIdViolation(userId);
+        if (violation != null) {
+            return new UserIdCheckDTO(userId, false, false, violation.getMessage());
         }
 
-        // 5) 아이디 중복 검사
-        if (memberRepository.existsByUserId(dto.getUserId())) {
-            throw new DuplicateUserIdException();
+        if (memberIdIndex.mightContain(userId)) {
+            if (memberRepository.existsByUserId(userId)) {
+                duplicatesOnCheck.increment();
+                return new UserIdCheckDTO(userId, true, false, MemberValidator.DUPLICATE_USER_ID.getMessage());
+            }
+            memberIdIndex.recordFalsePositive();
         }
+        return new UserIdCheckDTO(userId, true, true, "사용 가능한 아이디입니다.");
+    }
 
-        // 6) 전화번호 포맷팅 (010-1234-5678)
-        String formattedPhoneNumber = formatPhoneNumber(dto.getPhoneNumber());
+    /**
+     * 아이디 비교용 소문자 변환(user_id 컬럼의 대소문자 구분 없는 collation과 일치, 아이디는 ASCII만 허용)
+     */
+    private static String foldUserId(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
 
-        // 7) Entity 생성 및 매핑
+    /**
+     * 제약조건 위반이 user_id 중복인지 확인
+     * - DuplicateKeyException이거나, 원인 중 MySQL 중복 키 오류(1062)가 PRIMARY/user_id 키에 대한 것일 때만 중복으로 봅니다.
+     * - 컬럼 길이 초과, NOT NULL 위반 등은 중복이 아니므로 아이디 인덱스에 추가하지 않습니다.
+     */
+    static boolean isDuplicateUserId(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY) {
+                // 예: Duplicate entry 'user123' for key 'project_user.PRIMARY'
+                String message = sqlException.getMessage();
+                int keyAt = message == null ? -1 : message.lastIndexOf("for key '");
+                String key = keyAt < 0 ? "" : message.substring(keyAt);
+                return key.contains("PRIMARY") || key.contains("user_id");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검증된 DTO를 저장용 Entity로 변환
+     * - 비밀번호/비밀번호 확인 컬럼에는 평문 대신 해시를 저장합니다.
+     * - 전화번호를 010-1234-5678 형태로 포맷팅합니다(phoneBuffer 재사용).
+     */
+    private MemberEntity toEntity(MemberDTO dto, String encodedPassword, StringBuilder phoneBuffer) {
         MemberEntity entity = new MemberEntity();
         entity.setUserId(dto.getUserId());
         entity.setUserName(dto.getUserName());
-        entity.setPassword(dto.getPassword());
-        entity.setConfirmPassword(dto.getConfirmPassword());
-        entity.setPhoneNumber(formattedPhoneNumber);
-
-        // 8) Repository를 통한 저장
-        memberRepository.save(entity);
-
-        log.debug("[MemberService.saveUser] 저장 완료. entity = {}", entity);
+        entity.setPassword(encodedPassword);
+        entity.setConfirmPassword(encodedPassword);
+        String formatted = PhoneNumbers.normalize(dto.getPhoneNumber(), phoneBuffer);
+        // 검증을 통과했다면 null이 될 수 없지만, 안전장치
+        entity.setPhoneNumber(formatted != null ? formatted : dto.getPhoneNumber());
+        return entity;
     }
 
     /**
      * 로그인 메서드
      * - userId와 password를 DB와 대조하여 인증합니다.
+     * - 인증 정보는 memberCredentials 캐시를 거쳐 조회하므로, 같은 아이디로 반복되는 시도는 DB를 조회하지 않습니다.
+     * - 비밀번호 대조(BCrypt)는 해시 전용 스레드 풀에서 실행됩니다.
+     * - 이전 평문 비밀번호나 낮은 비용의 해시로 로그인에 성공하면 현재 설정으로 재해시하여 교체합니다.
      * - 성공 시 사용자 정보를 담은 DTO를 반환합니다.
      *
      * @param userId   사용자 아이디
      * @param password 사용자 비밀번호
      * @return 인증된 사용자 정보 DTO
      * @throws IllegalArgumentException 인증 실패 시
+     * @throws ServiceBusyException     해시 풀이 포화 상태인 경우
      */
     public MemberDTO login(String userId, String password) {
         log.debug("[MemberService.login] 호출 - userId: {}", userId);
 
         // 1) 필수 파라미터 검증
         if (isNullOrEmpty(userId) || isNullOrEmpty(password)) {
+            loginMissingFields.increment();
             throw new IllegalArgumentException("아이디와 비밀번호를 모두 입력해 주세요.");
         }
 
-        // 2) DB에서 사용자 조회
-        Optional<MemberEntity> optionalEntity = memberRepository.findByUserId(userId);
-        if (optionalEntity.isEmpty()) {
+        // 2) 사용자 인증 정보 조회(memberCredentials 캐시 → DB)
+        Optional<MemberCredential> optionalCredential = memberRepository.findCredentialByUserId(userId);
+        if (optionalCredential.isEmpty()) {
+            loginUnknownUsers.increment();
             throw new IllegalArgumentException("아이디와 비밀번호를 정확히 입력해 주세요.");
         }
 
-        MemberEntity entity = optionalEntity.get();
+        MemberCredential credential = optionalCredential.get();
 
         // 3) 비밀번호 대조
-        if (!entity.getPassword().equals(password)) {
+        if (!passwordHasher.matches(password, credential.getPassword())) {
+            loginBadPasswords.increment();
             throw new IllegalArgumentException("아이디와 비밀번호를 정확히 입력해 주세요.");
         }
 
-        // 4) 로그인 성공 - DTO 반환
+        // 4) 이전 평문/낮은 비용 해시 교체
+        if (passwordHasher.needsRehash(credential.getPassword())) {
+            rehashPassword(userId, password, credential.getPassword());
+        }
+
+        // 5) 로그인 성공 - DTO 반환
         MemberDTO dto = new MemberDTO();
-        dto.setUserId(entity.getUserId());
-        dto.setUserName(entity.getUserName());
-        dto.setPhoneNumber(entity.getPhoneNumber());
+        dto.setUserId(credential.getUserId());
+        dto.setUserName(credential.getUserName());
+        dto.setPhoneNumber(credential.getPhoneNumber());
         // 비밀번호는 노출하지 않음
 
         log.debug("[MemberService.login] 로그인 성공 - userName: {}", dto.getUserName());
         return dto;
     }
 
+    /**
+     * 비밀번호 재해시
+     * - 로그인에 성공한 평문 비밀번호를 현재 비용으로 해시하여 교체합니다.
+     * - 해시 풀이 포화 상태이면 교체를 건너뛰고 다음 로그인에 다시 시도합니다(로그인 자체는 성공).
+     * - 저장에 실패해도(컬럼 길이 초과 등) 로그만 남기고 다음 로그인에 다시 시도합니다(로그인 자체는 성공).
+     */
+    private void rehashPassword(String userId, String rawPassword, String currentPassword) {
+        try {
+            int updated = memberRepository.updatePassword(userId, currentPassword, passwordHasher.encode(rawPassword));
+            log.debug("[MemberService.rehashPassword] 비밀번호 재해시 - userId: {}, updated: {}", userId, updated);
+        } catch (ServiceBusyException e) {
+            log.debug("[MemberService.rehashPassword] 해시 풀 포화로 재해시 생략 - userId: {}", userId);
+        } catch (DataAccessException e) {
+            log.warn("[MemberService.rehashPassword] 재해시 저장 실패 - userId: {}", userId, e);
+        }
+    }
+
     /**
      * 전화번호 포맷팅 메서드
-     * - 10~11자리 숫자 문자열을 010-1234-5678 형태로 변환합니다.
+     * - 하이픈/공백/+82 국가번호가 섞인 입력을 010-1234-5678(10자리는 010-123-4567) 형태로 정규화합니다.
      *
-     * @param phoneNumber 숫자만 포함된 전화번호 (10~11자리)
+     * @param phoneNumber 검증을 통과한 전화번호 입력값
      * @return 포맷팅된 전화번호
      */
     protected String formatPhoneNumber(String phoneNumber) {
-        if (phoneNumber.length() == 10) {
-            // 예: 0101234567 -> 010-123-4567
-            return phoneNumber.substring(0, 3) + "-" + phoneNumber.substring(3, 6) + "-" + phoneNumber.substring(6);
-        } else if (phoneNumber.length() == 11) {
-            // 예: 01012345678 -> 010-1234-5678
-            return phoneNumber.substring(0, 3) + "-" + phoneNumber.substring(3, 7) + "-" + phoneNumber.substring(7);
-        }
-        // 정규식 검증을 통과했다면 여기 도달하지 않지만, 안전장치
-        return phoneNumber;
+        String formatted = PhoneNumbers.normalize(phoneNumber);
+        // 검증을 통과했다면 null이 될 수 없지만, 안전장치
+        return formatted != null ? formatted : phoneNumber;
+    }
+
+    /**
+     * 페이지 크기를 1~MAX_PAGE_SIZE 범위로 보정
+     */
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 
     /**
-     * 문자열 null 또는 공백 체크
+     * 문자열 null 또는 공백 체크(새 문자열을 만들지 않음)
      */
     private boolean isNullOrEmpty(String str) {
-        return str == null || str.trim().isEmpty();
+        return MemberValidator.isBlank(str);
     }
 
     /**
@@ -0,0 +1,85 @@
+package net.datasa.firstproject.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * MemberTableVersion
+ * - project_user 테이블의 변경 버전입니다. 회원가입(saveUser/saveUsers)에 성공할 때마다 1씩 증가합니다.
+ * - 사용자 목록 화면은 이 버전으로 ETag/Last-Modified를 만들고(304 응답), 렌더링한 표 조각을 캐시합니다.
+ * - 버전은 노드 메모리에만 있으므로 다른 노드에서의 가입은 보이지 않습니다.
+ *   그래서 max-stale 단위의 시간 구간(window)을 ETag와 캐시 키에 함께 넣어, 다른 노드의 변경도 최대 max-stale 후 반영되게 합니다.
+ */
+@Component
+public class MemberTableVersion {
+    private final LongSupplier clock; // epoch millis
+    private final long maxStaleMillis;
+    private final long epoch; // 기동 시각(재기동 후 이전 ETag와 겹치지 않도록)
+    private final AtomicReference<Snapshot> current;
+
+    /**
+     * 특정 시점의 테이블 버전
+     *
+     * @param epoch        기동 시각
+     * @param version      변경 횟수
+     * @param lastModified 마지막 변경 시각(epoch millis)
+     */
+    record Snapshot(long epoch, long version, long lastModified) {
+    }
+
+    /**
+     * 목록 응답에 사용할 버전
+     *
+     * @param key          ETag/캐시 키로 사용하는 버전 문자열(기동 시각-변경 횟수-시간 구간)
+     * @param lastModified Last-Modified 시각(epoch millis)
+     */
+    public record Version(String key, long lastModified) {
+        public String etag() {
+            return "\"" + key + "\"";
+        }
+    }
+
+    @Autowired
+    /**
+     * 생성자 주입
+     *
+     * @param maxStale 다른 노드의 변경을 반영하기까지 허용하는 최대 시간
+     */
+    public MemberTableVersion(@Value("${member.cache.list-fragments.max-stale:30s}") Duration maxStale) {
+        this(maxStale, System::currentTimeMillis);
+    }
+
+    /**
+     * 시계를 지정하는 생성자(테스트용)
+     */
+    MemberTableVersion(Duration maxStale, LongSupplier clock) {
+        this.clock = clock;
+        this.maxStaleMillis = Math.max(maxStale.toMillis(), 1);
+        this.epoch = clock.getAsLong();
+        this.current = new AtomicReference<>(new Snapshot(epoch, 0, epoch));
+    }
+
+    /**
+     * 테이블 변경 기록
+     */
+    public void bump() {
+        long now = clock.getAsLong();
+        current.updateAndGet(snapshot -> new Snapshot(snapshot.epoch(), snapshot.version() + 1, now));
+    }
+
+    /**
+     * 현재 버전
+     * - Last-Modified는 마지막 변경 시각과 현재 시간 구간의 시작 시각 중 늦은 값입니다.
+     */
+    public Version current() {
+        Snapshot snapshot = current.get();
+        long window = clock.getAsLong() / maxStaleMillis;
+        long lastModified = Math.max(snapshot.lastModified(), window * maxStaleMillis);
+        return new Version(snapshot.epoch() + "-" + snapshot.version() + "-" + window, lastModified);
+    }
+}
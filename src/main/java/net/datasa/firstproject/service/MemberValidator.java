@@ -0,0 +1,211 @@
+package net.datasa.firstproject.service;
+
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.exception.*;
+import org.springframework.stereotype.Component;
+
+/**
+ * MemberValidator
+ * - 회원가입 데이터를 정규식 없이 문자 단위로 한 번씩만 훑어 검증합니다(객체 할당 없음).
+ * - 검사 순서와 실패 시 예외/메시지는 이전 정규식 검증과 동일합니다.
+ *   1) DTO null → 2) 필수 필드 공백 → 3) 아이디/비밀번호/비밀번호 확인/이름/휴대전화번호 형식 → 4) 비밀번호 일치
+ * - 규칙
+ *   - 아이디: 3~14자, 영문/숫자/특수문자(!@#$%^&*()_+=-)
+ *   - 비밀번호: 8~14자, 아이디와 같은 문자 집합
+ *   - 이름: 2~20자, 한글 음절(가~힣, U+AC00~U+D7A3)
+ *   - 휴대전화번호: 숫자 10~11자리(하이픈/공백/+82 국가번호 허용, PhoneNumbers 참고)
+ * - 실패 예외는 메시지가 고정되어 있고 stack trace를 기록하지 않으므로 미리 만들어 재사용합니다.
+ */
+@Component
+public class MemberValidator {
+    // 유효성 검증 실패 예외(미리 만들어 재사용)
+    static final MissingFieldException MISSING_MEMBER = new MissingFieldException("회원가입 정보가 전달되지 않았습니다.", true);
+    static final MissingFieldException MISSING_USER_ID = new MissingFieldException("아이디를");
+    static final MissingFieldException MISSING_PASSWORD = new MissingFieldException("비밀번호를");
+    static final MissingFieldException MISSING_CONFIRM_PASSWORD = new MissingFieldException("비밀번호 확인을");
+    static final MissingFieldException MISSING_USER_NAME = new MissingFieldException("이름을");
+    static final MissingFieldException MISSING_PHONE_NUMBER = new MissingFieldException("휴대전화번호를");
+    static final InvalidUserIdException INVALID_USER_ID = new InvalidUserIdException();
+    static final InvalidPasswordException INVALID_PASSWORD = new InvalidPasswordException();
+    static final InvalidPasswordException INVALID_CONFIRM_PASSWORD = new InvalidPasswordException("비밀번호 확인은 8~14자, 영문/숫자/특수문자만 가능합니다.");
+    static final InvalidUserNameException INVALID_USER_NAME = new InvalidUserNameException();
+    static final InvalidPhoneNumberException INVALID_PHONE_NUMBER = new InvalidPhoneNumberException();
+    static final PasswordMismatchException PASSWORD_MISMATCH = new PasswordMismatchException();
+    static final DuplicateUserIdException DUPLICATE_USER_ID = new DuplicateUserIdException();
+
+    // 길이 규칙
+    static final int USER_ID_MIN_LENGTH = 3;
+    static final int USER_ID_MAX_LENGTH = 14;
+    static final int PASSWORD_MIN_LENGTH = 8;
+    static final int PASSWORD_MAX_LENGTH = 14;
+    static final int USER_NAME_MIN_LENGTH = 2;
+    static final int USER_NAME_MAX_LENGTH = 20;
+
+    // 아이디/비밀번호에 허용되는 ASCII 문자 표(0~127)
+    private static final boolean[] ACCOUNT_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ACCOUNT_CHARS[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            ACCOUNT_CHARS[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ACCOUNT_CHARS[c] = true;
+        }
+        for (char c : "!@#$%^&*()_+=-".toCharArray()) {
+            ACCOUNT_CHARS[c] = true;
+        }
+    }
+
+    /**
+     * 회원가입 데이터 유효성 검증
+     *
+     * @param dto 회원가입 데이터 DTO
+     * @throws ValidationException 검증 실패 시(실패 사유별 하위 예외)
+     */
+    public void validate(MemberDTO dto) {
+        ValidationException violation = findViolation(dto);
+        if (violation != null) {
+            throw violation;
+        }
+    }
+
+    /**
+     * 회원가입 데이터 유효성 검증(예외를 던지지 않는 방식)
+     * - 처음 실패한 규칙의 예외 인스턴스를 반환합니다.
+     * - 일괄 회원가입처럼 실패를 결과로 모으는 곳에서 throw/catch 없이 사용합니다.
+     *
+     * @param dto 회원가입 데이터 DTO
+     * @return 검증 실패 사유(미리 만들어 둔 예외 인스턴스), 통과 시 null
+     */
+    public ValidationException findViolation(MemberDTO dto) {
+        // 1) DTO null 체크
+        if (dto == null) {
+            return MISSING_MEMBER;
+        }
+
+        String userId = dto.getUserId();
+        String password = dto.getPassword();
+        String confirmPassword = dto.getConfirmPassword();
+        String userName = dto.getUserName();
+        String phoneNumber = dto.getPhoneNumber();
+
+        // 2) 필수 필드 null/공백 체크
+        if (isBlank(userId)) {
+            return MISSING_USER_ID;
+        }
+        if (isBlank(password)) {
+            return MISSING_PASSWORD;
+        }
+        if (isBlank(confirmPassword)) {
+            return MISSING_CONFIRM_PASSWORD;
+        }
+        if (isBlank(userName)) {
+            return MISSING_USER_NAME;
+        }
+        if (isBlank(phoneNumber)) {
+            return MISSING_PHONE_NUMBER;
+        }
+
+        // 3) 형식 검증 - 비밀번호 확인이 비밀번호와 같으면 이미 검사한 것이므로 다시 훑지 않음
+        if (!isValidUserId(userId)) {
+            return INVALID_USER_ID;
+        }
+        if (!isValidPassword(password)) {
+            return INVALID_PASSWORD;
+        }
+        boolean passwordsMatch = password.equals(confirmPassword);
+        if (!passwordsMatch && !isValidPassword(confirmPassword)) {
+            return INVALID_CONFIRM_PASSWORD;
+        }
+        if (!isValidUserName(userName)) {
+            return INVALID_USER_NAME;
+        }
+        if (!isValidPhoneNumber(phoneNumber)) {
+            return INVALID_PHONE_NUMBER;
+        }
+
+        // 4) 비밀번호 일치 검증
+        if (!passwordsMatch) {
+            return PASSWORD_MISMATCH;
+        }
+        return null;
+    }
+
+    /**
+     * 아이디 단독 검증(아이디 사용 가능 여부 확인용)
+     *
+     * @param userId 사용자 아이디
+     * @return 검증 실패 사유, 통과 시 null
+     */
+    public ValidationException findUserIdViolation(String userId) {
+        if (isBlank(userId)) {
+            return MISSING_USER_ID;
+        }
+        if (!isValidUserId(userId)) {
+            return INVALID_USER_ID;
+        }
+        return null;
+    }
+
+    /**
+     * null이거나 공백 문자(String.trim()이 제거하는 U+0000~U+0020)로만 이루어졌는지 검사
+     * - str.trim().isEmpty()와 같지만 새 문자열을 만들지 않습니다.
+     */
+    static boolean isBlank(String str) {
+        if (str == null) {
+            return true;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isValidUserId(String userId) {
+        return isAccountString(userId, USER_ID_MIN_LENGTH, USER_ID_MAX_LENGTH);
+    }
+
+    static boolean isValidPassword(String password) {
+        return isAccountString(password, PASSWORD_MIN_LENGTH, PASSWORD_MAX_LENGTH);
+    }
+
+    static boolean isValidUserName(String userName) {
+        int length = userName.length();
+        if (length < USER_NAME_MIN_LENGTH || length > USER_NAME_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = userName.charAt(i);
+            if (c < '가' || c > '힣') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isValidPhoneNumber(String phoneNumber) {
+        return PhoneNumbers.isValid(phoneNumber);
+    }
+
+    /**
+     * 아이디/비밀번호 문자 집합과 길이 검사
+     */
+    private static boolean isAccountString(String value, int minLength, int maxLength) {
+        int length = value.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= ACCOUNT_CHARS.length || !ACCOUNT_CHARS[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,219 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.datasa.firstproject.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordHasher
+ * - 비밀번호를 BCrypt로 해시하고 대조합니다. 비용(strength)은 member.password.bcrypt-strength로 설정합니다.
+ * - BCrypt 연산은 CPU를 오래 점유하므로 Tomcat 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+ *   풀 크기와 대기 큐가 제한되어 있어, 포화 상태에서는 큐에 쌓지 않고 즉시 ServiceBusyException(503)을 던집니다.
+ * - BCrypt 형식이 아닌 저장값은 이전 평문 비밀번호로 보고 상수 시간 비교로 대조합니다.
+ *   needsRehash()가 true이면 로그인 성공 시 새 해시로 교체해야 합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    // BCrypt 해시 문자열 길이($2a$10$ + 22자 salt + 31자 hash)
+    private static final int BCRYPT_HASH_LENGTH = 60;
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutNanos;
+    private final Counter rejectedTasks;
+
+    @Autowired
+    /**
+     * 생성자 주입
+     * - 해시 전용 스레드 풀을 생성하고 풀 상태 지표(executor.*{name=member.password})를 등록합니다.
+     *
+     * @param meterRegistry 풀 상태/거절 지표를 등록할 MeterRegistry
+     * @param strength      BCrypt 비용(4~31, 1 증가할 때마다 연산 시간 2배)
+     * @param poolSize      해시 스레드 수(0 이하이면 CPU 코어 수)
+     * @param queueCapacity 풀이 모두 사용 중일 때 대기할 수 있는 작업 수
+     * @param waitTimeout   작업 1건의 결과를 기다리는 최대 시간
+     */
+    public PasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${member.password.bcrypt-strength:10}") int strength,
+            @Value("${member.password.pool-size:0}") int poolSize,
+            @Value("${member.password.queue-capacity:64}") int queueCapacity,
+            @Value("${member.password.wait-timeout:2s}") Duration waitTimeout
+    ) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "member.password", List.of()).bindTo(meterRegistry);
+        rejectedTasks = Counter.builder("member.password.rejected")
+                .description("해시 풀 포화로 거절된 작업 수").register(meterRegistry);
+
+        log.debug("[PasswordHasher] 생성 - strength: {}, threads: {}, queue: {}", strength, threads, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 해시
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시 문자열
+     * @throws ServiceBusyException 해시 풀이 포화 상태이거나 대기 시간을 넘긴 경우
+     */
+    public String encode(String rawPassword) {
+        return await(submit(() -> encoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 일괄 해시(대량 회원가입용)
+     * - 동시에 풀 크기만큼만 제출하여 대기 큐를 로그인 요청 몫으로 남겨 둡니다.
+     *
+     * @param rawPasswords 평문 비밀번호 리스트
+     * @return 입력 순서대로 정렬된 BCrypt 해시 리스트
+     * @throws ServiceBusyException 해시 풀이 포화 상태이거나 대기 시간을 넘긴 경우
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>(executor.getMaximumPoolSize());
+        try {
+            for (String rawPassword : rawPasswords) {
+                if (inFlight.size() == executor.getMaximumPoolSize()) {
+                    encoded.add(await(inFlight.poll()));
+                }
+                inFlight.add(submit(() -> encoder.encode(rawPassword)));
+            }
+            while (!inFlight.isEmpty()) {
+                encoded.add(await(inFlight.poll()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return encoded;
+    }
+
+    /**
+     * 비밀번호 대조
+     * - 저장값이 BCrypt 해시이면 해시 풀에서, 이전 평문 비밀번호이면 호출 스레드에서 상수 시간 비교로 대조합니다.
+     *
+     * @param rawPassword    입력한 평문 비밀번호
+     * @param storedPassword DB에 저장된 비밀번호(해시 또는 이전 평문)
+     * @return 일치 여부
+     * @throws ServiceBusyException 해시 풀이 포화 상태이거나 대기 시간을 넘긴 경우
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return await(submit(() -> encoder.matches(rawPassword, storedPassword)));
+    }
+
+    /**
+     * 재해시 필요 여부
+     * - 이전 평문 비밀번호이거나, 현재 설정보다 낮은 비용으로 해시된 경우 true입니다.
+     *
+     * @param storedPassword DB에 저장된 비밀번호(해시 또는 이전 평문)
+     * @return 로그인 성공 시 새 해시로 교체해야 하면 true
+     */
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    /**
+     * BCrypt 해시 형식 여부
+     * - 평문 비밀번호는 최대 14자이므로 60자 BCrypt 해시와 겹치지 않습니다.
+     */
+    static boolean isHashed(String storedPassword) {
+        return storedPassword != null
+                && storedPassword.length() == BCRYPT_HASH_LENGTH
+                && (storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$"));
+    }
+
+    /**
+     * 설정된 BCrypt 비용
+     */
+    int strength() {
+        return strength;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            log.warn("[PasswordHasher] 해시 풀 포화 - active: {}, queued: {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceBusyException();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTasks.increment();
+            throw new ServiceBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 해시 전용 데몬 스레드 생성(password-hasher-1, password-hasher-2, ...)
+     */
+    private static final class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.datasa.firstproject.service;
+
+/**
+ * PhoneNumbers
+ * - 휴대전화번호 입력값을 정규화하고 010-1234-5678 형태로 포맷팅하는 유틸리티입니다.
+ * - 허용 입력: 숫자 10~11자리 사이의 하이픈(-)/공백, 앞쪽 +82 국가번호(+82 10-1234-5678 → 010-1234-5678)
+ * - 입력은 한 번만 훑어 숫자를 long 키로 모으며(pack), 포맷팅은 키에서 바로 StringBuilder에 문자를 기록하므로(formatTo)
+ *   substring/문자열 연결로 인한 중간 객체가 생기지 않습니다.
+ * - normalize(input)/format(key)는 호출마다 작은 StringBuilder를 하나 만듭니다. 여러 번호를 연달아 처리할 때는
+ *   normalize(input, buffer)에 같은 StringBuilder를 넘기면 결과 String 외에는 할당하지 않습니다.
+ * - pack()이 돌려주는 키는 같은 번호면 입력 형태와 무관하게 같은 값이므로 메모리 인덱스의 키로 사용할 수 있습니다.
+ *   키 구성: (숫자 값 << 4) | 자릿수
+ */
+public final class PhoneNumbers {
+    // 정규화할 수 없는 입력
+    public static final long INVALID = -1L;
+
+    static final int MIN_DIGITS = 10;
+    static final int MAX_DIGITS = 11;
+
+    // 포맷팅된 번호의 최대 길이(010-1234-5678)
+    static final int MAX_FORMATTED_LENGTH = MAX_DIGITS + 2;
+
+    private static final String COUNTRY_CODE = "+82";
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * 입력값을 숫자 키로 변환
+     *
+     * @param input 휴대전화번호 입력값
+     * @return 정규화된 번호의 키, 허용하지 않는 형식이면 INVALID
+     */
+    public static long pack(CharSequence input) {
+        if (input == null) {
+            return INVALID;
+        }
+
+        int length = input.length();
+        int start = 0;
+        long value = 0;
+        int digits = 0;
+
+        // +82 국가번호는 국내 번호 앞자리 0으로 바꿈(+82 010... 처럼 0을 함께 쓴 경우는 그대로 사용)
+        if (startsWith(input, COUNTRY_CODE)) {
+            start = COUNTRY_CODE.length();
+            int first = firstDigit(input, start);
+            if (first < 0) {
+                return INVALID;
+            }
+            if (first != 0) {
+                digits = 1; // 앞자리 0
+            }
+        }
+
+        for (int i = start; i < length; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c != '-' && c != ' ') {
+                return INVALID;
+            }
+        }
+
+        if (digits < MIN_DIGITS) {
+            return INVALID;
+        }
+        return value << 4 | digits;
+    }
+
+    /**
+     * 허용하는 형식인지 검사
+     */
+    public static boolean isValid(CharSequence input) {
+        return pack(input) != INVALID;
+    }
+
+    /**
+     * 입력값을 010-1234-5678 형태로 정규화
+     *
+     * @param input 휴대전화번호 입력값
+     * @return 정규화된 번호, 허용하지 않는 형식이면 null
+     */
+    public static String normalize(CharSequence input) {
+        return normalize(input, new StringBuilder(MAX_FORMATTED_LENGTH));
+    }
+
+    /**
+     * 입력값을 010-1234-5678 형태로 정규화(버퍼 재사용)
+     * - buffer의 기존 내용은 지우고 사용합니다.
+     *
+     * @param input  휴대전화번호 입력값
+     * @param buffer 포맷팅에 사용할 StringBuilder(반복 호출 시 같은 인스턴스 재사용)
+     * @return 정규화된 번호, 허용하지 않는 형식이면 null
+     */
+    public static String normalize(CharSequence input, StringBuilder buffer) {
+        long key = pack(input);
+        if (key == INVALID) {
+            return null;
+        }
+        buffer.setLength(0);
+        formatTo(key, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * 키를 010-1234-5678 형태 문자열로 변환
+     */
+    public static String format(long key) {
+        StringBuilder out = new StringBuilder(MAX_FORMATTED_LENGTH);
+        formatTo(key, out);
+        return out.toString();
+    }
+
+    /**
+     * 키를 010-1234-5678 형태로 StringBuilder에 이어 씀(반복 호출 시 StringBuilder 재사용 가능)
+     */
+    public static void formatTo(long key, StringBuilder out) {
+        int digits = (int) (key & 0xF);
+        long value = key >>> 4;
+        int middle = digits == MAX_DIGITS ? 4 : 3;
+        long divisor = pow10(digits - 1);
+        for (int i = 0; i < digits; i++) {
+            if (i == 3 || i == 3 + middle) {
+                out.append('-');
+            }
+            out.append((char) ('0' + value / divisor % 10));
+            divisor /= 10;
+        }
+    }
+
+    private static boolean startsWith(CharSequence input, String prefix) {
+        if (input.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (input.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * start 이후 첫 숫자 값(없으면 -1)
+     */
+    private static int firstDigit(CharSequence input, int start) {
+        for (int i = start; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+        }
+        return -1;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,222 @@
+package net.datasa.firstproject.session;
+
+import org.springframework.session.Session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * CompactSession
+ * - CompactSessionRepository가 요청 처리 동안 사용하는 세션 객체입니다.
+ * - 로그인 정보(userId, userName)는 필드로 보관하고, 그 밖의 속성은 필요할 때만 만드는 맵에 보관합니다.
+ * - 저장소에는 이 객체가 아니라 인코딩된 byte[]가 보관됩니다(CompactSessionRepository.save 참고).
+ * - 만료 여부(isExpired)는 저장소와 같은 시계(Clock)로 판단합니다.
+ */
+public final class CompactSession implements Session {
+    public static final String USER_ID = "userId";
+    public static final String USER_NAME = "userName";
+
+    private String id;
+    private final String originalId;
+    private final long creationTime;   // epoch millis
+    private long lastAccessedTime;     // epoch millis
+    private int maxInactiveSeconds;
+    private String userId;
+    private String userName;
+    private Map<String, Object> extraAttributes; // userId/userName 외 속성(없으면 null)
+    private final Clock clock;
+
+    /**
+     * 새 세션 생성
+     */
+    CompactSession(Clock clock, Duration maxInactiveInterval) {
+        this(clock, clock.millis(), maxInactiveInterval);
+    }
+
+    private CompactSession(Clock clock, long nowMillis, Duration maxInactiveInterval) {
+        this(clock, newId(), null, nowMillis, nowMillis, (int) maxInactiveInterval.toSeconds(), null, null, null);
+    }
+
+    /**
+     * 저장된 세션 복원
+     */
+    CompactSession(Clock clock, String id, long creationTime, long lastAccessedTime, int maxInactiveSeconds,
+                   String userId, String userName, Map<String, Object> extraAttributes) {
+        this(clock, id, id, creationTime, lastAccessedTime, maxInactiveSeconds, userId, userName, extraAttributes);
+    }
+
+    private CompactSession(Clock clock, String id, String originalId, long creationTime, long lastAccessedTime, int maxInactiveSeconds,
+                           String userId, String userName, Map<String, Object> extraAttributes) {
+        this.clock = clock;
+        this.id = id;
+        this.originalId = originalId;
+        this.creationTime = creationTime;
+        this.lastAccessedTime = lastAccessedTime;
+        this.maxInactiveSeconds = maxInactiveSeconds;
+        this.userId = userId;
+        this.userName = userName;
+        this.extraAttributes = extraAttributes == null ? null : new HashMap<>(extraAttributes);
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 저장소에 마지막으로 저장된 아이디(새 세션이면 null)
+     */
+    String getOriginalId() {
+        return originalId;
+    }
+
+    @Override
+    public String changeSessionId() {
+        id = newId();
+        return id;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(String attributeName) {
+        if (USER_ID.equals(attributeName) && userId != null) {
+            return (T) userId;
+        }
+        if (USER_NAME.equals(attributeName) && userName != null) {
+            return (T) userName;
+        }
+        return extraAttributes == null ? null : (T) extraAttributes.get(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        if (userId == null && userName == null && extraAttributes == null) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        if (userId != null) {
+            names.add(USER_ID);
+        }
+        if (userName != null) {
+            names.add(USER_NAME);
+        }
+        if (extraAttributes != null) {
+            names.addAll(extraAttributes.keySet());
+        }
+        return names;
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        if (attributeValue == null) {
+            removeAttribute(attributeName);
+            return;
+        }
+        // 문자열인 로그인 정보는 필드에, 그 밖의 속성은 맵에 보관
+        if (USER_ID.equals(attributeName) && attributeValue instanceof String value) {
+            userId = value;
+            removeExtraAttribute(attributeName);
+        } else if (USER_NAME.equals(attributeName) && attributeValue instanceof String value) {
+            userName = value;
+            removeExtraAttribute(attributeName);
+        } else {
+            if (USER_ID.equals(attributeName)) {
+                userId = null;
+            } else if (USER_NAME.equals(attributeName)) {
+                userName = null;
+            }
+            if (extraAttributes == null) {
+                extraAttributes = new HashMap<>(4);
+            }
+            extraAttributes.put(attributeName, attributeValue);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        if (USER_ID.equals(attributeName)) {
+            userId = null;
+        } else if (USER_NAME.equals(attributeName)) {
+            userName = null;
+        }
+        removeExtraAttribute(attributeName);
+    }
+
+    private void removeExtraAttribute(String attributeName) {
+        if (extraAttributes != null) {
+            extraAttributes.remove(attributeName);
+            if (extraAttributes.isEmpty()) {
+                extraAttributes = null;
+            }
+        }
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return Instant.ofEpochMilli(creationTime);
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        this.lastAccessedTime = lastAccessedTime.toEpochMilli();
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return Instant.ofEpochMilli(lastAccessedTime);
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        maxInactiveSeconds = (int) interval.toSeconds();
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return Duration.ofSeconds(maxInactiveSeconds);
+    }
+
+    @Override
+    public boolean isExpired() {
+        return isExpired(clock.millis());
+    }
+
+    boolean isExpired(long nowMillis) {
+        return CompactSessionRepository.isExpired(lastAccessedTime, maxInactiveSeconds, nowMillis);
+    }
+
+    long creationTimeMillis() {
+        return creationTime;
+    }
+
+    long lastAccessedTimeMillis() {
+        return lastAccessedTime;
+    }
+
+    int maxInactiveSeconds() {
+        return maxInactiveSeconds;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    String userName() {
+        return userName;
+    }
+
+    Map<String, Object> extraAttributes() {
+        return extraAttributes;
+    }
+}
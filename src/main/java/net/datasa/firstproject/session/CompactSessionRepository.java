@@ -0,0 +1,213 @@
+package net.datasa.firstproject.session;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.SessionRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CompactSessionRepository
+ * - Tomcat 기본 세션(StandardSession + 속성 맵 + 노드/타임스탬프 객체) 대신
+ *   세션 1개를 byte[] 1개로 인코딩하여 보관하는 메모리 세션 저장소입니다.
+ *   - 레이아웃: 생성 시각(8) | 마지막 접근 시각(8) | 최대 비활성 초(4) | userId 길이(4) + UTF-8 | userName 길이(4) + UTF-8
+ *   - 세션 1개당 힙 객체는 아이디 문자열과 byte[](약 60~100바이트)뿐이며, 요청 처리 중에만 CompactSession으로 복원합니다.
+ *   - userId/userName 외의 속성(드물게 사용)은 별도 맵에 그대로 보관합니다.
+ * - 만료된 세션은 조회 시 제거하고, 주기적으로 전체를 훑어 제거합니다(member.session.cleanup-interval).
+ *   만료 검사는 byte[]에서 시각만 읽으므로 훑는 동안 객체를 만들지 않습니다.
+ * - 현재 보관 중인 세션 수는 member.session.active 지표로 노출합니다.
+ */
+@Slf4j
+public class CompactSessionRepository implements SessionRepository<CompactSession> {
+    private static final int CREATION_TIME_OFFSET = 0;
+    private static final int LAST_ACCESSED_TIME_OFFSET = 8;
+    private static final int MAX_INACTIVE_OFFSET = 16;
+    private static final int ATTRIBUTES_OFFSET = 20;
+    private static final int NULL_LENGTH = -1;
+
+    private final Map<String, byte[]> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> extraAttributes = new ConcurrentHashMap<>();
+    private final Duration defaultMaxInactiveInterval;
+    private final Clock clock;
+
+    /**
+     * @param defaultMaxInactiveInterval 새 세션의 최대 비활성 시간
+     * @param meterRegistry              세션 수 지표를 등록할 MeterRegistry
+     * @param clock                      세션 시각 기준 시계
+     */
+    public CompactSessionRepository(Duration defaultMaxInactiveInterval, MeterRegistry meterRegistry, Clock clock) {
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.clock = clock;
+        Gauge.builder("member.session.active", sessions, Map::size)
+                .description("보관 중인 세션 수").register(meterRegistry);
+    }
+
+    @Override
+    public CompactSession createSession() {
+        return new CompactSession(clock, defaultMaxInactiveInterval);
+    }
+
+    @Override
+    public void save(CompactSession session) {
+        String id = session.getId();
+        String originalId = session.getOriginalId();
+        if (originalId != null && !originalId.equals(id)) {
+            deleteById(originalId); // 세션 아이디 변경(session fixation 방지)
+        }
+
+        sessions.put(id, encode(session));
+        Map<String, Object> extras = session.extraAttributes();
+        if (extras == null) {
+            extraAttributes.remove(id);
+        } else {
+            extraAttributes.put(id, Map.copyOf(extras));
+        }
+    }
+
+    @Override
+    public CompactSession findById(String id) {
+        byte[] data = sessions.get(id);
+        if (data == null) {
+            return null;
+        }
+        if (isExpired(data, clock.millis())) {
+            delete(id, data);
+            return null;
+        }
+        return decode(clock, id, data, extraAttributes.get(id));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        sessions.remove(id);
+        extraAttributes.remove(id);
+    }
+
+    /**
+     * 만료 세션 일괄 제거
+     * - 훑는 동안 같은 세션이 다시 저장되었으면 제거하지 않습니다(값이 같을 때만 제거).
+     */
+    @Scheduled(fixedDelayString = "${member.session.cleanup-interval:1m}")
+    public void cleanUpExpiredSessions() {
+        long now = clock.millis();
+        int removed = 0;
+        Iterator<Map.Entry<String, byte[]>> iterator = sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, byte[]> entry = iterator.next();
+            if (isExpired(entry.getValue(), now) && delete(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("[CompactSessionRepository.cleanUpExpiredSessions] 만료 세션 제거 - removed: {}, remaining: {}", removed, sessions.size());
+        }
+    }
+
+    /**
+     * 보관 중인 세션 수
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private boolean delete(String id, byte[] data) {
+        if (sessions.remove(id, data)) {
+            extraAttributes.remove(id);
+            return true;
+        }
+        return false;
+    }
+
+    static boolean isExpired(long lastAccessedTime, int maxInactiveSeconds, long nowMillis) {
+        return maxInactiveSeconds >= 0 && nowMillis - lastAccessedTime >= maxInactiveSeconds * 1000L;
+    }
+
+    private static boolean isExpired(byte[] data, long nowMillis) {
+        return isExpired(readLong(data, LAST_ACCESSED_TIME_OFFSET), readInt(data, MAX_INACTIVE_OFFSET), nowMillis);
+    }
+
+    static byte[] encode(CompactSession session) {
+        byte[] userId = toBytes(session.userId());
+        byte[] userName = toBytes(session.userName());
+        byte[] data = new byte[ATTRIBUTES_OFFSET + 4 + length(userId) + 4 + length(userName)];
+
+        writeLong(data, CREATION_TIME_OFFSET, session.creationTimeMillis());
+        writeLong(data, LAST_ACCESSED_TIME_OFFSET, session.lastAccessedTimeMillis());
+        writeInt(data, MAX_INACTIVE_OFFSET, session.maxInactiveSeconds());
+        int position = writeString(data, ATTRIBUTES_OFFSET, userId);
+        writeString(data, position, userName);
+        return data;
+    }
+
+    static CompactSession decode(Clock clock, String id, byte[] data, Map<String, Object> extras) {
+        int userIdLength = readInt(data, ATTRIBUTES_OFFSET);
+        int userNamePosition = ATTRIBUTES_OFFSET + 4 + Math.max(userIdLength, 0);
+        return new CompactSession(clock, id,
+                readLong(data, CREATION_TIME_OFFSET),
+                readLong(data, LAST_ACCESSED_TIME_OFFSET),
+                readInt(data, MAX_INACTIVE_OFFSET),
+                readString(data, ATTRIBUTES_OFFSET),
+                readString(data, userNamePosition),
+                extras);
+    }
+
+    private static byte[] toBytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int writeString(byte[] data, int position, byte[] bytes) {
+        if (bytes == null) {
+            writeInt(data, position, NULL_LENGTH);
+            return position + 4;
+        }
+        writeInt(data, position, bytes.length);
+        System.arraycopy(bytes, 0, data, position + 4, bytes.length);
+        return position + 4 + bytes.length;
+    }
+
+    private static String readString(byte[] data, int position) {
+        int length = readInt(data, position);
+        return length == NULL_LENGTH ? null : new String(data, position + 4, length, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(byte[] data, int position, long value) {
+        for (int i = 7; i >= 0; i--) {
+            data[position + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] data, int position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeInt(byte[] data, int position, int value) {
+        for (int i = 3; i >= 0; i--) {
+            data[position + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static int readInt(byte[] data, int position) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (data[position + i] & 0xFF);
+        }
+        return value;
+    }
+}
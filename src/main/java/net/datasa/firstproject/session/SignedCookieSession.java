@@ -0,0 +1,195 @@
+package net.datasa.firstproject.session;
+
+import org.springframework.session.Session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SignedCookieSession
+ * - SignedCookieSessionRepository가 사용하는 세션 객체입니다. 세션 아이디가 곧 서명된 토큰(쿠키 값)입니다.
+ * - 토큰에는 userId, userName, 생성 시각, 만료 시각만 담기므로 그 밖의 속성은 현재 요청 안에서만 유지됩니다.
+ * - 로그인 정보가 바뀌었거나 만료가 가까워지면 save() 시 새 토큰이 발급되고, 쿠키가 갱신됩니다.
+ * - 만료 여부(isExpired)는 저장소와 같은 시계(Clock)로 판단합니다.
+ */
+public final class SignedCookieSession implements Session {
+    private String id;
+    private final long creationTime;   // epoch seconds
+    private long lastAccessedTime;     // epoch millis
+    private final long expiryTime;     // 현재 토큰의 만료 시각(epoch seconds), 새 세션이면 0
+    private int maxInactiveSeconds;
+    private String userId;
+    private String userName;
+    private Map<String, Object> requestAttributes; // 토큰에 담지 않는 속성(현재 요청 한정)
+    private boolean changed;
+    private final Clock clock;
+
+    /**
+     * 새 세션 생성 - 저장 전까지는 어떤 토큰과도 일치하지 않는 임시 아이디를 사용합니다.
+     */
+    SignedCookieSession(Clock clock, Duration maxInactiveInterval) {
+        this(clock, clock.instant(), maxInactiveInterval);
+    }
+
+    private SignedCookieSession(Clock clock, Instant now, Duration maxInactiveInterval) {
+        this(clock, UUID.randomUUID().toString(), now.getEpochSecond(), now.toEpochMilli(), 0,
+                (int) maxInactiveInterval.toSeconds(), null, null);
+        changed = true;
+    }
+
+    /**
+     * 검증된 토큰에서 복원
+     */
+    SignedCookieSession(Clock clock, String token, long creationTime, long lastAccessedTime, long expiryTime,
+                        int maxInactiveSeconds, String userId, String userName) {
+        this.clock = clock;
+        this.id = token;
+        this.creationTime = creationTime;
+        this.lastAccessedTime = lastAccessedTime;
+        this.expiryTime = expiryTime;
+        this.maxInactiveSeconds = maxInactiveSeconds;
+        this.userId = userId;
+        this.userName = userName;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String changeSessionId() {
+        changed = true;
+        id = UUID.randomUUID().toString();
+        return id;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(String attributeName) {
+        if (CompactSession.USER_ID.equals(attributeName)) {
+            return (T) userId;
+        }
+        if (CompactSession.USER_NAME.equals(attributeName)) {
+            return (T) userName;
+        }
+        return requestAttributes == null ? null : (T) requestAttributes.get(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        if (userId == null && userName == null && requestAttributes == null) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        if (userId != null) {
+            names.add(CompactSession.USER_ID);
+        }
+        if (userName != null) {
+            names.add(CompactSession.USER_NAME);
+        }
+        if (requestAttributes != null) {
+            names.addAll(requestAttributes.keySet());
+        }
+        return names;
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        if (CompactSession.USER_ID.equals(attributeName)) {
+            userId = attributeValue == null ? null : attributeValue.toString();
+            changed = true;
+        } else if (CompactSession.USER_NAME.equals(attributeName)) {
+            userName = attributeValue == null ? null : attributeValue.toString();
+            changed = true;
+        } else if (attributeValue == null) {
+            removeAttribute(attributeName);
+        } else {
+            if (requestAttributes == null) {
+                requestAttributes = new HashMap<>(4);
+            }
+            requestAttributes.put(attributeName, attributeValue);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        if (CompactSession.USER_ID.equals(attributeName) || CompactSession.USER_NAME.equals(attributeName)) {
+            setAttribute(attributeName, null);
+        } else if (requestAttributes != null) {
+            requestAttributes.remove(attributeName);
+        }
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return Instant.ofEpochSecond(creationTime);
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        this.lastAccessedTime = lastAccessedTime.toEpochMilli();
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return Instant.ofEpochMilli(lastAccessedTime);
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        maxInactiveSeconds = (int) interval.toSeconds();
+        changed = true;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return Duration.ofSeconds(maxInactiveSeconds);
+    }
+
+    @Override
+    public boolean isExpired() {
+        return expiryTime != 0 && clock.millis() / 1000 >= expiryTime;
+    }
+
+    /**
+     * 새 토큰 발급이 필요한지 확인
+     * - 로그인 정보/만료 설정이 바뀌었거나, 남은 유효 시간이 최대 비활성 시간의 절반 미만이면 다시 서명합니다.
+     *   (요청마다 쿠키를 다시 쓰지 않으면서 활동 중인 사용자의 세션은 계속 연장)
+     */
+    boolean needsNewToken() {
+        return changed || expiryTime - lastAccessedTime / 1000 < maxInactiveSeconds / 2;
+    }
+
+    void assignToken(String token) {
+        id = token;
+        changed = false;
+    }
+
+    long creationTimeSeconds() {
+        return creationTime;
+    }
+
+    long lastAccessedTimeMillis() {
+        return lastAccessedTime;
+    }
+
+    int maxInactiveSeconds() {
+        return maxInactiveSeconds;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    String userName() {
+        return userName;
+    }
+}
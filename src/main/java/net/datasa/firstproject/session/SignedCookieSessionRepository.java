@@ -0,0 +1,274 @@
+package net.datasa.firstproject.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.session.SessionRepository;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SignedCookieSessionRepository
+ * - 서버에 세션을 보관하지 않는(stateless) 저장소입니다. 세션 아이디(SESSION 쿠키 값)가 HMAC-SHA256으로 서명된 토큰이며,
+ *   요청마다 서명과 만료 시각만 확인하므로 저장소 조회가 없고 여러 노드에서 같은 키로 그대로 검증됩니다.
+ *   - 토큰: {kid}.{payload}.{signature} (Base64 URL, padding 없음)
+ *   - payload: 생성 시각(8) | 만료 시각(8) | 최대 비활성 초(4) | userId 길이(2) + UTF-8 | userName 길이(2) + UTF-8
+ *   - signature: HMAC-SHA256("{kid}.{payload}")
+ * - 키 교체: member.session.signing.keys에 "kid:Base64 비밀키"를 쉼표로 나열합니다.
+ *   첫 번째 키로 서명하고, 나머지 키는 검증에만 사용하므로 새 키를 앞에 추가 → 이전 토큰 만료 후 이전 키 제거 순서로 교체합니다.
+ * - 서버에서 토큰을 폐기할 수 없으므로 로그아웃은 로그인 정보를 지운 새 토큰으로 쿠키를 덮어쓰는 방식입니다.
+ */
+@Slf4j
+public class SignedCookieSessionRepository implements SessionRepository<SignedCookieSession> {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int FIXED_PAYLOAD_BYTES = 8 + 8 + 4;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String signingKeyId;
+    private final Map<String, SigningKey> keys; // kid → 서명 키
+    private final Duration defaultMaxInactiveInterval;
+    private final Clock clock;
+
+    /**
+     * @param signingKeys                "kid:Base64 비밀키" 목록(첫 번째 키로 서명)
+     * @param defaultMaxInactiveInterval 새 세션의 최대 비활성 시간
+     * @param clock                      만료 판단 기준 시계
+     */
+    public SignedCookieSessionRepository(List<String> signingKeys, Duration defaultMaxInactiveInterval, Clock clock) {
+        this.keys = parseKeys(signingKeys);
+        this.signingKeyId = keys.keySet().iterator().next();
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.clock = clock;
+    }
+
+    private static Map<String, SigningKey> parseKeys(List<String> signingKeys) {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        for (String entry : signingKeys == null ? List.<String>of() : signingKeys) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || trimmed.indexOf('.') >= 0) {
+                throw new IllegalStateException("member.session.signing.keys 형식은 kid:Base64 비밀키 입니다(kid에 '.' 불가).");
+            }
+            String keyId = trimmed.substring(0, separator);
+            byte[] secret = Base64.getDecoder().decode(trimmed.substring(separator + 1));
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("세션 서명 키 " + keyId + "는 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+            }
+            keys.put(keyId, new SigningKey(new SecretKeySpec(secret, ALGORITHM)));
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("signed-cookie 세션 모드에는 member.session.signing.keys 설정이 필요합니다.");
+        }
+        return keys;
+    }
+
+    @Override
+    public SignedCookieSession createSession() {
+        return new SignedCookieSession(clock, defaultMaxInactiveInterval);
+    }
+
+    /**
+     * 필요한 경우에만 새 토큰 발급(세션 아이디 교체 → 응답에 쿠키 갱신)
+     */
+    @Override
+    public void save(SignedCookieSession session) {
+        if (session.needsNewToken()) {
+            session.assignToken(sign(session));
+        }
+    }
+
+    /**
+     * 토큰 검증 후 세션 복원
+     *
+     * @return 서명이 올바르고 만료되지 않았으면 세션, 아니면 null
+     */
+    @Override
+    public SignedCookieSession findById(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot <= firstDot) {
+            return null;
+        }
+
+        SigningKey key = keys.get(token.substring(0, firstDot));
+        if (key == null) {
+            return null; // 제거된 키로 서명된 토큰
+        }
+
+        try {
+            byte[] expected = key.hmac(token.substring(0, lastDot));
+            byte[] actual = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+            return decode(clock, token, DECODER.decode(token.substring(firstDot + 1, lastDot)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.debug("[SignedCookieSessionRepository.findById] 잘못된 토큰 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 서버에 보관한 세션이 없으므로 할 일이 없습니다(쿠키 삭제는 SessionRepositoryFilter가 처리).
+     */
+    @Override
+    public void deleteById(String id) {
+    }
+
+    private String sign(SignedCookieSession session) {
+        long expiryTime = session.lastAccessedTimeMillis() / 1000 + session.maxInactiveSeconds();
+        String signed = signingKeyId + "." + ENCODER.encodeToString(encode(session, expiryTime));
+        return signed + "." + ENCODER.encodeToString(keys.get(signingKeyId).hmac(signed));
+    }
+
+    static byte[] encode(SignedCookieSession session, long expiryTime) {
+        byte[] userId = toBytes(session.userId());
+        byte[] userName = toBytes(session.userName());
+        byte[] payload = new byte[FIXED_PAYLOAD_BYTES + 2 + length(userId) + 2 + length(userName)];
+
+        writeLong(payload, 0, session.creationTimeSeconds());
+        writeLong(payload, 8, expiryTime);
+        writeInt(payload, 16, session.maxInactiveSeconds());
+        int position = writeString(payload, FIXED_PAYLOAD_BYTES, userId);
+        writeString(payload, position, userName);
+        return payload;
+    }
+
+    private static SignedCookieSession decode(Clock clock, String token, byte[] payload) {
+        long nowMillis = clock.millis();
+        long expiryTime = readLong(payload, 8);
+        if (nowMillis / 1000 >= expiryTime) {
+            return null;
+        }
+        int userIdLength = readShort(payload, FIXED_PAYLOAD_BYTES);
+        int userNamePosition = FIXED_PAYLOAD_BYTES + 2 + (userIdLength == NULL_LENGTH ? 0 : userIdLength);
+        return new SignedCookieSession(clock, token,
+                readLong(payload, 0),
+                nowMillis,
+                expiryTime,
+                readInt(payload, 16),
+                readString(payload, FIXED_PAYLOAD_BYTES),
+                readString(payload, userNamePosition));
+    }
+
+    private static byte[] toBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_LENGTH) {
+            throw new IllegalArgumentException("세션 토큰에 담을 수 없는 길이입니다: " + bytes.length);
+        }
+        return bytes;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int writeString(byte[] data, int position, byte[] bytes) {
+        int length = bytes == null ? NULL_LENGTH : bytes.length;
+        data[position] = (byte) (length >>> 8);
+        data[position + 1] = (byte) length;
+        if (bytes == null) {
+            return position + 2;
+        }
+        System.arraycopy(bytes, 0, data, position + 2, bytes.length);
+        return position + 2 + bytes.length;
+    }
+
+    private static String readString(byte[] data, int position) {
+        int length = readShort(data, position);
+        return length == NULL_LENGTH ? null : new String(data, position + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static int readShort(byte[] data, int position) {
+        return ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+    }
+
+    private static void writeLong(byte[] data, int position, long value) {
+        for (int i = 7; i >= 0; i--) {
+            data[position + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] data, int position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeInt(byte[] data, int position, int value) {
+        for (int i = 3; i >= 0; i--) {
+            data[position + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static int readInt(byte[] data, int position) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (data[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 키 목록 파싱 결과 확인용(테스트)
+     */
+    List<String> keyIds() {
+        return new ArrayList<>(keys.keySet());
+    }
+
+    /**
+     * 서명 키
+     * - Mac은 스레드 안전하지 않으므로 초기화된 Mac을 복제하여 사용합니다(복제를 지원하지 않으면 새로 초기화).
+     */
+    private static final class SigningKey {
+        private final SecretKeySpec secret;
+        private final Mac prototype;
+
+        SigningKey(SecretKeySpec secret) {
+            this.secret = secret;
+            this.prototype = newMac(secret);
+        }
+
+        byte[] hmac(String data) {
+            Mac mac;
+            try {
+                mac = (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                mac = newMac(secret);
+            }
+            return mac.doFinal(data.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private static Mac newMac(SecretKeySpec secret) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(secret);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("세션 서명 키 초기화 실패", e);
+            }
+        }
+    }
+}
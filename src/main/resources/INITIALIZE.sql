@@ -15,15 +15,25 @@ CREATE TABLE project_user
 (
     user_id          VARCHAR(30) PRIMARY KEY NOT NULL UNIQUE,
     user_name        VARCHAR(50)             NOT NULL,
-    password         VARCHAR(50)             NOT NULL,
-    confirm_password VARCHAR(50)             NOT NULL,
+    password         VARCHAR(100)            NOT NULL,
+    confirm_password VARCHAR(100)            NOT NULL,
     phone_number     VARCHAR(20)             NOT NULL
 );
 
+-- 기존 테이블의 비밀번호 컬럼 확장(BCrypt 해시 60자 저장)
+-- - 이전 스키마(VARCHAR(50))에 반드시 적용해야 합니다. 새로 만든 테이블에서는 변화가 없습니다.
+-- - 개발 환경에서는 member.schema.migrate=true로 기동하여 애플리케이션이 같은 ALTER를 실행하게 할 수도 있습니다(MemberSchemaMigration).
+ALTER TABLE project_user
+    MODIFY password VARCHAR(100) NOT NULL,
+    MODIFY confirm_password VARCHAR(100) NOT NULL;
+
+-- 휴대전화번호 조회용 인덱스
+CREATE INDEX idx_project_user_phone_number ON project_user (phone_number);
+
 -- 해당 테이블이 정상적으로 작성되었는지를 확인
 SHOW TABLES;
 
--- 임시 사용자 데이터 추가
+-- 임시 사용자 데이터 추가(평문 비밀번호 - 첫 로그인 시 BCrypt 해시로 교체됨)
 INSERT INTO project_user
 VALUES ('kamillee0918', '이민재', 'kamillee_!mportpassword', 'kamillee_!mportpassword', '010-1234-1234');
 
@@ -21,6 +21,38 @@ document.addEventListener('DOMContentLoaded', function () {
         });
     }
 
+    // 아이디 사용 가능 여부 확인(입력이 멈춘 뒤 300ms 후 서버에 조회)
+    const userIdInput = document.getElementById('floatingUserId');
+    const userIdFeedback = document.getElementById('userIdFeedback');
+    let checkIdTimer = null;
+    let checkIdController = null;
+    userIdInput.addEventListener('input', function () {
+        clearTimeout(checkIdTimer);
+        const userId = userIdInput.value.trim();
+        if (!userId) {
+            userIdFeedback.textContent = '';
+            userIdFeedback.className = 'form-text text-start mb-2';
+            return;
+        }
+        checkIdTimer = setTimeout(function () {
+            // 이전 요청이 아직 진행 중이면 취소하여 마지막 입력값의 결과만 표시
+            if (checkIdController) {
+                checkIdController.abort();
+            }
+            checkIdController = new AbortController();
+            fetch('/member/check-id?userId=' + encodeURIComponent(userId), {signal: checkIdController.signal})
+                .then(response => response.json())
+                .then(result => {
+                    userIdFeedback.textContent = result.message;
+                    userIdFeedback.className = 'form-text text-start mb-2 '
+                        + (result.available ? 'text-success' : 'text-danger');
+                })
+                .catch(() => {
+                    // 취소되었거나 네트워크 오류인 경우 표시하지 않음(최종 검증은 서버에서 수행)
+                });
+        }, 300);
+    });
+
     // 클라이언트 사이드 유효성 검증
     const registerForm = document.getElementById('registerForm');
     registerForm.addEventListener('submit', function (e) {
@@ -122,8 +154,15 @@ document.addEventListener('DOMContentLoaded', function () {
             return;
         }
 
-        // phoneNumber 검증: 10~11자, 숫자만
-        const phonePattern = /^[0-9]{10,11}$/;
+        // phoneNumber 검증: 숫자 10~11자리(하이픈/공백, +82 국가번호 허용 - 서버에서 010-1234-5678 형태로 정규화)
+        const phonePattern = /^(\+82)?[0-9 -]+$/;
+        let phoneDigits = phoneNumber.replace(/[^0-9]/g, '');
+        if (phoneNumber.startsWith('+82')) {
+            phoneDigits = phoneDigits.substring(2);
+            if (!phoneDigits.startsWith('0')) {
+                phoneDigits = '0' + phoneDigits;
+            }
+        }
         if (!phoneNumber) {
             Swal.fire({
                 icon: 'warning',
@@ -133,7 +172,7 @@ document.addEventListener('DOMContentLoaded', function () {
             }).then(() => document.getElementById('floatingPhoneNumber').focus());
             return;
         }
-        if (!phonePattern.test(phoneNumber)) {
+        if (!phonePattern.test(phoneNumber) || phoneDigits.length < 10 || phoneDigits.length > 11) {
             Swal.fire({
                 icon: 'warning',
                 title: '휴대전화번호 형식 오류',
@@ -0,0 +1,52 @@
+package net.datasa.firstproject.config;
+
+import net.datasa.firstproject.controller.MemberController;
+import net.datasa.firstproject.repository.MemberRepository;
+import net.datasa.firstproject.repository.MemberSchemaMigration;
+import net.datasa.firstproject.service.MemberIdIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class StartupConfigTest {
+
+    @Order(1)
+    @Test
+    @DisplayName("지연 초기화 제외 - MemberRepository/MemberIdIndex/MemberSchemaMigration만 기동 중에 생성")
+    void eagerMemberBeans_excludesRepositoryAndIdIndexOnly() {
+        LazyInitializationExcludeFilter filter = StartupConfig.eagerMemberBeans();
+
+        assertThat(filter.isExcluded("memberRepository", null, MemberRepository.class)).isTrue();
+        assertThat(filter.isExcluded("memberIdIndex", null, MemberIdIndex.class)).isTrue();
+        assertThat(filter.isExcluded("memberSchemaMigration", null, MemberSchemaMigration.class)).isTrue();
+        assertThat(filter.isExcluded("memberController", null, MemberController.class)).isFalse();
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("기동 리포트 - 소요 시간 내림차순으로 limit개까지, 빈 이름 태그 포함, 기록은 비우지 않음")
+    void slowestSteps_sortedByDurationWithTags() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep outer = startup.start("spring.beans.instantiate").tag("beanName", "entityManagerFactory");
+        StartupStep inner = startup.start("spring.beans.instantiate").tag("beanName", "dataSource");
+        inner.end();
+        Thread.sleep(5);
+        outer.end();
+        startup.start("spring.context.refresh").end();
+
+        List<String> lines = StartupConfig.slowestSteps(startup.getBufferedTimeline(), 2);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("spring.beans.instantiate", "[beanName=entityManagerFactory]");
+        assertThat(startup.getBufferedTimeline().getEvents()).hasSize(3);
+    }
+}
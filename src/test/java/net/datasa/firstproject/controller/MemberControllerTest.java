@@ -1,29 +1,55 @@
 package net.datasa.firstproject.controller;
 
+import net.datasa.firstproject.dto.MemberBulkResultDTO;
 import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
 import net.datasa.firstproject.exception.InvalidUserIdException;
+import net.datasa.firstproject.exception.LoginThrottledException;
+import net.datasa.firstproject.exception.ServiceBusyException;
+import net.datasa.firstproject.service.LoginThrottle;
+import net.datasa.firstproject.service.MemberExportFormat;
 import net.datasa.firstproject.service.MemberService;
+import net.datasa.firstproject.service.MemberTableVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = MemberController.class)
+@Import({MemberTableVersion.class, UserListStreamRenderer.class})
 @TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
 class MemberControllerTest {
 
@@ -33,6 +59,18 @@ class MemberControllerTest {
     @MockitoBean
     private MemberService memberService;
 
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
+    @MockitoBean
+    private UserTableFragmentCache userTableCache;
+
+    @Autowired
+    private MemberTableVersion tableVersion;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
     // ===== 회원가입 테스트 =====
 
     @Order(1)
@@ -143,12 +181,319 @@ class MemberControllerTest {
     @DisplayName("사용자 목록 GET - 모델에 users 포함 및 뷰명 반환")
     void userListView_returnsUserListWithModel() throws Exception {
         // given
-        when(memberService.findAllUser()).thenReturn(Collections.<MemberDTO>emptyList());
+        when(memberService.findUserPage(0, 20))
+                .thenReturn(new SliceImpl<>(Collections.<MemberSummary>emptyList(), PageRequest.of(0, 20), false));
+        when(memberService.countAllUser()).thenReturn(0L);
 
         // when & then
         mockMvc.perform(get("/member/list"))
                 .andExpect(status().isOk())
                 .andExpect(model().attributeExists("users"))
+                .andExpect(model().attribute("totalCount", 0L))
+                .andExpect(view().name("view/member/user-list"));
+    }
+
+    @Order(8)
+    @Test
+    @DisplayName("사용자 목록 GET - after 파라미터가 있으면 키셋 방식으로 조회")
+    void userListView_withAfter_usesKeysetQuery() throws Exception {
+        // given
+        MemberSummary user = new SpelAwareProxyProjectionFactory().createProjection(MemberSummary.class,
+                Map.of("userId", "user200", "userName", "홍길동", "phoneNumber", "010-1234-5678"));
+        when(memberService.findUserSliceAfter("user100", 20))
+                .thenReturn(new SliceImpl<>(List.of(user), PageRequest.ofSize(20), true));
+        when(memberService.countAllUser()).thenReturn(300L);
+
+        // when & then
+        mockMvc.perform(get("/member/list")
+                        .param("after", "user100")
+                        .param("offset", "40"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("keyset", true))
+                .andExpect(model().attribute("rowOffset", 40L))
+                .andExpect(model().attribute("hasNext", true))
+                .andExpect(model().attribute("nextAfter", "user200"))
+                .andExpect(view().name("view/member/user-list"));
+
+        verify(memberService, never()).findUserPage(anyInt(), anyInt());
+    }
+
+    // ===== 내보내기 테스트 =====
+
+    @Order(9)
+    @Test
+    @DisplayName("내보내기 GET - 비로그인 시 401 반환")
+    void export_withoutLogin_returnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/member/export"))
+                .andExpect(status().isUnauthorized());
+
+        verify(memberService, never()).exportUsers(any(), any());
+    }
+
+    @Order(10)
+    @Test
+    @DisplayName("내보내기 GET - 로그인 시 CSV를 스트리밍 응답으로 반환")
+    void export_withLogin_streamsCsv() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("user_id,user_name,phone_number\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(memberService).exportUsers(eq(MemberExportFormat.CSV), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/member/export")
+                        .sessionAttr("userId", "testUser1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"members.csv\""))
+                .andExpect(content().string("user_id,user_name,phone_number\r\n"));
+    }
+
+    @Order(11)
+    @Test
+    @DisplayName("내보내기 GET - 지원하지 않는 형식이면 400 반환")
+    void export_unknownFormat_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/member/export")
+                        .param("format", "xml")
+                        .sessionAttr("userId", "testUser1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ===== 일괄 회원가입 테스트 =====
+
+    @Order(12)
+    @Test
+    @DisplayName("일괄 회원가입 POST - 비로그인 시 401 반환")
+    void registerBulk_withoutLogin_returnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/member/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnauthorized());
+
+        verify(memberService, never()).saveUsers(any());
+    }
+
+    @Order(13)
+    @Test
+    @DisplayName("일괄 회원가입 POST - 행별 처리 결과를 JSON으로 반환")
+    void registerBulk_withLogin_returnsPerRowReport() throws Exception {
+        // given
+        when(memberService.saveUsers(any())).thenReturn(List.of(
+                MemberBulkResultDTO.success(0, "user1"),
+                MemberBulkResultDTO.failure(1, "us", "아이디는 3~14자, 영문/숫자/특수문자만 가능합니다.")));
+
+        // when & then
+        mockMvc.perform(post("/member/bulk")
+                        .sessionAttr("userId", "testUser1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"userId":"user1","userName":"홍길동","password":"password123!","confirmPassword":"password123!","phoneNumber":"01012345678"},
+                                 {"userId":"us","userName":"홍길동","password":"password123!","confirmPassword":"password123!","phoneNumber":"01012345678"}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].message").value("아이디는 3~14자, 영문/숫자/특수문자만 가능합니다."));
+    }
+
+    // ===== 서버 혼잡 테스트 =====
+
+    @Order(14)
+    @Test
+    @DisplayName("로그인 POST - 해시 풀 포화 시 503과 Retry-After 반환")
+    void login_hasherBusy_returnsServiceUnavailable() throws Exception {
+        // given
+        when(memberService.login("testUser1", "password123")).thenThrow(new ServiceBusyException());
+
+        // when & then
+        mockMvc.perform(post("/member/login")
+                        .param("userId", "testUser1")
+                        .param("password", "password123"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    // ===== 휴대전화번호 조회 테스트 =====
+
+    @Order(15)
+    @Test
+    @DisplayName("전화번호 조회 GET - 비로그인 시 401 반환")
+    void findByPhoneNumber_withoutLogin_returnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/member/find-by-phone").param("phoneNumber", "010-1234-5678"))
+                .andExpect(status().isUnauthorized());
+
+        verify(memberService, never()).findUsersByPhoneNumber(any());
+    }
+
+    @Order(16)
+    @Test
+    @DisplayName("전화번호 조회 GET - 로그인 시 조회 결과를 JSON으로 반환")
+    void findByPhoneNumber_withLogin_returnsUsers() throws Exception {
+        // given
+        MemberSummary user = new SpelAwareProxyProjectionFactory().createProjection(MemberSummary.class,
+                Map.of("userId", "user1", "userName", "홍길동", "phoneNumber", "010-1234-5678"));
+        when(memberService.findUsersByPhoneNumber("+82 10-1234-5678")).thenReturn(List.of(user));
+
+        // when & then
+        mockMvc.perform(get("/member/find-by-phone")
+                        .param("phoneNumber", "+82 10-1234-5678")
+                        .sessionAttr("userId", "testUser1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userId").value("user1"))
+                .andExpect(jsonPath("$[0].phoneNumber").value("010-1234-5678"));
+    }
+
+    @Order(17)
+    @Test
+    @DisplayName("로그인 POST - DB 커넥션 획득 실패 시 503과 Retry-After 반환")
+    void login_connectionUnavailable_returnsServiceUnavailable() throws Exception {
+        // given
+        when(memberService.login("testUser1", "password123"))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        // when & then
+        mockMvc.perform(post("/member/login")
+                        .param("userId", "testUser1")
+                        .param("password", "password123"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    // ===== 로그인 시도 제한 테스트 =====
+
+    @Order(18)
+    @Test
+    @DisplayName("로그인 POST - 시도 제한 초과 시 인증 없이 429와 Retry-After 반환")
+    void login_throttled_returnsTooManyRequestsWithoutAuthentication() throws Exception {
+        // given
+        doThrow(new LoginThrottledException(12)).when(loginThrottle).acquire(eq("testUser1"), any());
+
+        // when & then
+        mockMvc.perform(post("/member/login")
+                        .param("userId", "testUser1")
+                        .param("password", "password123"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verify(memberService, never()).login(any(), any());
+    }
+
+    // ===== 사용자 목록 조건부 요청/표 조각 캐시 테스트 =====
+
+    @Order(19)
+    @Test
+    @DisplayName("사용자 목록 GET - 테이블 버전이 그대로면 If-None-Match에 304 반환(목록 조회 없음)")
+    void userListView_sameVersion_returnsNotModified() throws Exception {
+        // given
+        when(memberService.findUserPage(1, 20))
+                .thenReturn(new SliceImpl<>(Collections.<MemberSummary>emptyList(), PageRequest.of(1, 20), false));
+        String etag = mockMvc.perform(get("/member/list").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/member/list").param("page", "1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(memberService, times(1)).findUserPage(1, 20);
+    }
+
+    @Order(20)
+    @Test
+    @DisplayName("사용자 목록 GET - 회원가입으로 테이블 버전이 바뀌면 이전 ETag로 요청해도 200 반환")
+    void userListView_versionBumped_returnsFullResponse() throws Exception {
+        // given
+        when(memberService.findUserPage(2, 20))
+                .thenReturn(new SliceImpl<>(Collections.<MemberSummary>emptyList(), PageRequest.of(2, 20), false));
+        String etag = mockMvc.perform(get("/member/list").param("page", "2"))
+                .andReturn().getResponse().getHeader("ETag");
+        tableVersion.bump();
+
+        // when & then
+        mockMvc.perform(get("/member/list").param("page", "2").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Order(21)
+    @Test
+    @DisplayName("사용자 목록 GET - 캐시된 표 조각이 있으면 목록/count 조회 없이 렌더링")
+    void userListView_cachedFragment_skipsQueries() throws Exception {
+        // given
+        when(userTableCache.get(any())).thenReturn("<table id=\"cached-user-table\"></table>");
+
+        // when & then
+        mockMvc.perform(get("/member/list"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("cached-user-table")))
                 .andExpect(view().name("view/member/user-list"));
+
+        verify(memberService, never()).findUserPage(anyInt(), anyInt());
+        verify(memberService, never()).countAllUser();
+        verify(userTableCache, never()).render(any(), any());
+    }
+
+    // ===== 전체 사용자 화면 테스트 =====
+
+    @Order(22)
+    @Test
+    @DisplayName("전체 사용자 GET - 비로그인 시 로그인 페이지로 리디렉션")
+    void allUsersView_withoutLogin_redirectsToLogin() throws Exception {
+        mockMvc.perform(get("/member/all"))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl("/member/login"));
+
+        verify(memberService, never()).readAllUsers(any());
+    }
+
+    @Order(23)
+    @Test
+    @DisplayName("전체 사용자 GET - 로그인 시 스트리밍 쿼리의 행을 HTML로 스트리밍")
+    void allUsersView_withLogin_streamsRows() throws Exception {
+        // given
+        SpelAwareProxyProjectionFactory factory = new SpelAwareProxyProjectionFactory();
+        Stream<MemberSummary> users = Stream.of(
+                factory.createProjection(MemberSummary.class, Map.of("userId", "user1", "userName", "홍길동", "phoneNumber", "010-1234-5678")),
+                factory.createProjection(MemberSummary.class, Map.of("userId", "user2", "userName", "이몽룡", "phoneNumber", "010-0000-0000")));
+        when(memberService.readAllUsers(any())).thenAnswer(invocation ->
+                invocation.<Function<Stream<MemberSummary>, Object>>getArgument(0).apply(users));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/member/all")
+                        .sessionAttr("userId", "testUser1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/html;charset=UTF-8"))
+                .andExpect(content().string(containsString("user1")))
+                .andExpect(content().string(containsString("이몽룡")))
+                .andExpect(content().string(containsString("010-0000-0000")));
+    }
+
+    // ===== 정적 리소스 테스트 =====
+
+    @Order(24)
+    @Test
+    @DisplayName("정적 리소스 GET - 내용 해시 URL로 제공하고 1년 immutable 캐시 헤더 반환")
+    void staticResource_versionedUrl_isImmutable() throws Exception {
+        // given
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/css/style.css");
+        assertThat(versionedUrl).matches("/css/style-[0-9a-f]{32}\\.css");
+
+        // when & then
+        mockMvc.perform(get(versionedUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
     }
 }
@@ -0,0 +1,55 @@
+package net.datasa.firstproject.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class MemberSchemaMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Order(1)
+    @Test
+    @DisplayName("스키마 확인 - 비밀번호 컬럼이 BCrypt 해시보다 짧으면 VARCHAR(100)으로 확장")
+    void afterPropertiesSet_shortColumns_widens() {
+        when(jdbcTemplate.queryForObject(MemberSchemaMigration.PASSWORD_COLUMN_LENGTH_SQL, Integer.class)).thenReturn(50);
+
+        new MemberSchemaMigration(jdbcTemplate, true).afterPropertiesSet();
+
+        verify(jdbcTemplate).execute(MemberSchemaMigration.WIDEN_PASSWORD_COLUMNS_SQL);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("스키마 확인 - 이미 확장된 컬럼이면 ALTER 하지 않음")
+    void afterPropertiesSet_wideColumns_doesNothing() {
+        when(jdbcTemplate.queryForObject(MemberSchemaMigration.PASSWORD_COLUMN_LENGTH_SQL, Integer.class)).thenReturn(100);
+
+        new MemberSchemaMigration(jdbcTemplate, true).afterPropertiesSet();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("스키마 확인 - member.schema.migrate=false이면 DB에 접근하지 않음")
+    void afterPropertiesSet_disabled_skips() {
+        new MemberSchemaMigration(jdbcTemplate, false).afterPropertiesSet();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,174 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.exception.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class LoginThrottleTest {
+    private static final int USER_LIMIT = 5;
+    private static final int IP_LIMIT = 20;
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(meterRegistry, USER_LIMIT, PERIOD, IP_LIMIT, PERIOD, 1000, clock::get);
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("시도 제한 - 아이디별 limit회까지 허용하고 초과 시 Retry-After와 함께 거절")
+    void acquire_overUserLimit_throws() {
+        for (int i = 0; i < USER_LIMIT; i++) {
+            loginThrottle.acquire("user1", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> loginThrottle.acquire("user1", "10.0.0.99"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(12));
+        // 다른 아이디는 영향 없음
+        loginThrottle.acquire("user2", "10.0.0.99");
+        assertThat(meterRegistry.get("member.login.throttled").tag("key", "user").counter().count()).isEqualTo(1);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("시도 제한 - 발행 간격(period / limit)이 지나면 1회씩 다시 허용")
+    void acquire_afterInterval_refills() {
+        for (int i = 0; i < USER_LIMIT; i++) {
+            loginThrottle.acquire("user1", null);
+        }
+        assertThat(catchThrowable(() -> loginThrottle.acquire("user1", null))).isInstanceOf(LoginThrottledException.class);
+
+        clock.addAndGet(PERIOD.toNanos() / USER_LIMIT);
+        loginThrottle.acquire("user1", null);
+        assertThat(catchThrowable(() -> loginThrottle.acquire("user1", null))).isInstanceOf(LoginThrottledException.class);
+
+        clock.addAndGet(PERIOD.toNanos());
+        for (int i = 0; i < USER_LIMIT; i++) {
+            loginThrottle.acquire("user1", null);
+        }
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("시도 제한 - 한 IP에서 여러 아이디를 번갈아 시도해도 IP 기준으로 거절")
+    void acquire_overIpLimit_throwsAcrossUsers() {
+        for (int i = 0; i < IP_LIMIT; i++) {
+            loginThrottle.acquire("user" + i, "10.0.0.1");
+        }
+
+        assertThat(catchThrowable(() -> loginThrottle.acquire("another", "10.0.0.1"))).isInstanceOf(LoginThrottledException.class);
+        assertThat(meterRegistry.get("member.login.throttled").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("시도 제한 - 여러 스레드가 같은 아이디로 동시에 시도해도 정확히 limit회만 허용")
+    void acquire_concurrentSameKey_allowsExactlyLimit() throws Exception {
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 100, PERIOD, Integer.MAX_VALUE, PERIOD, 1000, clock::get);
+        int threads = 32;
+        int attemptsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            throttle.acquire("target", null);
+                            allowed++;
+                        } catch (LoginThrottledException e) {
+                            // 거절
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> future : futures) {
+                allowed += future.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(allowed).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("시도 제한 - 서로 다른 키로 동시에 대량 시도해도 보관 버킷 수는 maximum-keys 이하")
+    void acquire_concurrentManyKeys_boundedMemory() throws Exception {
+        int maximumKeys = 500;
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, USER_LIMIT, PERIOD, IP_LIMIT, PERIOD, maximumKeys, clock::get);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        int n = i;
+                        catchThrowable(() -> throttle.acquire("user-" + thread + "-" + n, "10." + thread + "." + (n % 256) + ".1"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(throttle.bucketCount()).isLessThanOrEqualTo(maximumKeys * 2L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Order(6)
+    @Test
+    @DisplayName("시도 제한 - 대소문자만 다른 아이디는 같은 버킷으로 셈")
+    void acquire_userIdCaseVariants_shareBucket() {
+        String[] variants = {"admin", "Admin", "ADMIN", "aDmin", "adMin"};
+        for (int i = 0; i < USER_LIMIT; i++) {
+            loginThrottle.acquire(variants[i], "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> loginThrottle.acquire("AdMiN", "10.0.0.99"))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+}
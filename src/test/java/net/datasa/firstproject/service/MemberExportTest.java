@@ -0,0 +1,156 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class MemberExportTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberIdIndex memberIdIndex;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Spy
+    private MemberValidator memberValidator;
+
+    @Mock
+    private MemberTableVersion tableVersion;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private MemberService memberService;
+
+    /**
+     * 테스트용 경량 프로젝션 - 요청 시점에 값을 만들어 행 객체가 쌓이지 않도록 합니다.
+     */
+    private record Row(String getUserId, String getUserName, String getPhoneNumber) implements MemberSummary {
+        static Row of(int index) {
+            return new Row("user" + index, "홍길동", "010-1234-" + String.format("%04d", index % 10_000));
+        }
+    }
+
+    /**
+     * 기록된 바이트와 줄 수만 세고 내용은 버리는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("내보내기 - CSV 헤더와 행 기록, 특수문자 필드는 따옴표 처리")
+    void exportUsers_csv_writesHeaderAndEscapedRows() throws Exception {
+        // given
+        when(memberRepository.streamAllByOrderByUserIdAsc())
+                .thenReturn(Stream.of(new Row("user1", "홍길동", "010-1234-5678"), new Row("a,\"b\"", "이몽룡", "010-0000-0000")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberService.exportUsers(MemberExportFormat.CSV, out);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "user_id,user_name,phone_number\r\n"
+                        + "user1,홍길동,010-1234-5678\r\n"
+                        + "\"a,\"\"b\"\"\",이몽룡,010-0000-0000\r\n");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("내보내기 - NDJSON 한 줄에 JSON 객체 하나 기록")
+    void exportUsers_ndjson_writesOneObjectPerLine() throws Exception {
+        // given
+        when(memberRepository.streamAllByOrderByUserIdAsc())
+                .thenReturn(Stream.of(new Row("user\"1", "홍길동", "010-1234-5678")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        memberService.exportUsers(MemberExportFormat.NDJSON, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"userId\":\"user\\\"1\",\"userName\":\"홍길동\",\"phoneNumber\":\"010-1234-5678\"}\n");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("내보내기 - 형식 파라미터 변환")
+    void exportFormat_from_matchesExtensionIgnoringCase() {
+        assertThat(MemberExportFormat.from("CSV")).isEqualTo(MemberExportFormat.CSV);
+        assertThat(MemberExportFormat.from("ndjson")).isEqualTo(MemberExportFormat.NDJSON);
+        assertThat(MemberExportFormat.from("xml")).isNull();
+    }
+
+    /**
+     * 100만 행 내보내기 - memoryTest 태스크에서 작은 힙(-Xmx48m)으로 실행됩니다.
+     * 행을 리스트로 모으는 구현이라면 이 힙에서 OutOfMemoryError가 발생합니다.
+     */
+    @Order(4)
+    @Test
+    @Tag("memory")
+    @DisplayName("내보내기 - 100만 행을 일정한 메모리로 스트리밍")
+    void exportUsers_oneMillionRows_runsInConstantMemory() throws Exception {
+        // given
+        int rows = 1_000_000;
+        when(memberRepository.streamAllByOrderByUserIdAsc())
+                .thenReturn(IntStream.range(0, rows).mapToObj(Row::of));
+        CountingOutputStream out = new CountingOutputStream();
+
+        // when
+        long count = memberService.exportUsers(MemberExportFormat.NDJSON, out);
+
+        // then
+        assertThat(count).isEqualTo(rows);
+        assertThat(out.lines).isEqualTo(rows);
+        assertThat(out.bytes).isGreaterThan(rows * 50L);
+    }
+}
@@ -0,0 +1,127 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class MemberIdIndexTest {
+
+    private static final int EXPECTED_IDS = 10_000;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MeterRegistry meterRegistry;
+    private MemberIdIndex memberIdIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberIdIndex = new MemberIdIndex(memberRepository, meterRegistry, EXPECTED_IDS, 0.01);
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("아이디 인덱스 - 준비 전에는 항상 DB 확인이 필요하다고 응답")
+    void mightContain_beforeWarmUp_returnsTrue() {
+        assertThat(memberIdIndex.isReady()).isFalse();
+        assertThat(memberIdIndex.mightContain("anyUser")).isTrue();
+        assertThat(meterRegistry.get("member.id_index.lookups").tag("result", "not_ready").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("아이디 인덱스 - warm-up으로 적재한 아이디와 이후 추가한 아이디는 미탐 없음")
+    void mightContain_afterWarmUp_hasNoFalseNegatives() {
+        // given
+        when(memberRepository.streamAllUserIds())
+                .thenReturn(IntStream.range(0, EXPECTED_IDS / 2).mapToObj(i -> "user" + i));
+
+        // when
+        memberIdIndex.warmUp();
+        IntStream.range(EXPECTED_IDS / 2, EXPECTED_IDS).forEach(i -> memberIdIndex.add("user" + i));
+
+        // then
+        assertThat(memberIdIndex.isReady()).isTrue();
+        for (int i = 0; i < EXPECTED_IDS; i++) {
+            assertThat(memberIdIndex.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("아이디 인덱스 - 예상 건수까지 채웠을 때 오탐률이 목표치 근처")
+    void mightContain_atCapacity_keepsFalsePositiveRateNearTarget() {
+        // given
+        when(memberRepository.streamAllUserIds())
+                .thenReturn(IntStream.range(0, EXPECTED_IDS).mapToObj(i -> "user" + i));
+        memberIdIndex.warmUp();
+
+        // when
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes)
+                .filter(i -> memberIdIndex.mightContain("other" + i))
+                .count();
+
+        // then
+        double rate = (double) falsePositives / probes;
+        assertThat(rate).isLessThan(0.02);
+        assertThat(memberIdIndex.expectedFalsePositiveProbability()).isLessThan(0.02);
+        assertThat(meterRegistry.get("member.id_index.lookups").tag("result", "absent").counter().count())
+                .isEqualTo(probes - falsePositives);
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("아이디 인덱스 - 준비 실패 시 준비 상태가 되지 않음")
+    void warmUp_failure_staysNotReady() {
+        when(memberRepository.streamAllUserIds()).thenThrow(new IllegalStateException("DB down"));
+
+        memberIdIndex.warmUp();
+
+        assertThat(memberIdIndex.isReady()).isFalse();
+        assertThat(memberIdIndex.mightContain("user1")).isTrue();
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("아이디 인덱스 - 오탐은 준비 이후에만 집계")
+    void recordFalsePositive_countsOnlyWhenReady() {
+        memberIdIndex.recordFalsePositive();
+        when(memberRepository.streamAllUserIds()).thenReturn(Stream.empty());
+        memberIdIndex.warmUp();
+        memberIdIndex.recordFalsePositive();
+
+        assertThat(meterRegistry.get("member.id_index.false_positives").counter().count()).isEqualTo(1.0);
+    }
+
+    @Order(6)
+    @Test
+    @DisplayName("아이디 인덱스 - 대소문자만 다른 아이디는 같은 아이디로 판단")
+    void mightContain_ignoresCase() {
+        when(memberRepository.streamAllUserIds()).thenReturn(Stream.of("abc"));
+        memberIdIndex.warmUp();
+        memberIdIndex.add("NewUser");
+
+        assertThat(memberIdIndex.mightContain("ABC")).isTrue();
+        assertThat(memberIdIndex.mightContain("aBc")).isTrue();
+        assertThat(memberIdIndex.mightContain("newuser")).isTrue();
+    }
+}
@@ -1,9 +1,16 @@
 package net.datasa.firstproject.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.dto.MemberBulkResultDTO;
+import net.datasa.firstproject.dto.MemberCredential;
 import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.dto.MemberSummary;
+import net.datasa.firstproject.dto.UserIdCheckDTO;
 import net.datasa.firstproject.entity.MemberEntity;
 import net.datasa.firstproject.exception.*;
 import net.datasa.firstproject.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -12,12 +19,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,9 +50,32 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberIdIndex memberIdIndex;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Spy
+    private MemberValidator memberValidator;
+
+    @Mock
+    private MemberTableVersion tableVersion;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MemberService memberService;
 
+    @BeforeEach
+    void setUp() {
+        // BCrypt 대신 "hashed:" 접두어를 붙이는 가짜 해시
+        lenient().when(passwordHasher.encode(anyString())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        lenient().when(passwordHasher.encodeAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(raw -> "hashed:" + raw).toList());
+    }
+
     private MemberDTO createDto(String userId, String userName, String pw, String confirmPw, String phone) {
         MemberDTO dto = new MemberDTO();
         dto.setUserId(userId);
@@ -188,9 +234,9 @@ class MemberServiceTest {
 
     @Order(14)
     @Test
-    @DisplayName("회원가입 - 전화번호 형식 오류 (하이픈 포함)")
+    @DisplayName("회원가입 - 전화번호 형식 오류 (숫자/하이픈/공백 외 문자 포함)")
     void saveUser_phoneNumberInvalidCharacter_throwsException() {
-        MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "010-1234-5678");
+        MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "010.1234.5678");
 
         assertThatThrownBy(() -> memberService.saveUser(dto))
                 .isInstanceOf(InvalidPhoneNumberException.class)
@@ -205,14 +251,16 @@ class MemberServiceTest {
     void saveUser_duplicateUserId_throwsException() {
         // given
         MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "01012345678");
-        when(memberRepository.existsByUserId("user123")).thenReturn(true);
+        when(memberRepository.saveAndFlush(any(MemberEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry 'user123' for key 'project_user.PRIMARY'", "23000", 1062)));
 
         // when & then
         assertThatThrownBy(() -> memberService.saveUser(dto))
                 .isInstanceOf(DuplicateUserIdException.class)
                 .hasMessageContaining("이미 사용 중인 아이디입니다");
 
-        verify(memberRepository, never()).save(any(MemberEntity.class));
+        verify(memberRepository, never()).existsByUserId(any());
     }
 
     // ===== 전화번호 포맷팅 테스트 =====
@@ -223,14 +271,12 @@ class MemberServiceTest {
     void saveUser_phoneNumberFormatting_10digits() {
         // given
         MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "0101234567");
-        when(memberRepository.existsByUserId("user123")).thenReturn(false);
-
         // when
         memberService.saveUser(dto);
 
         // then
         ArgumentCaptor<MemberEntity> captor = ArgumentCaptor.forClass(MemberEntity.class);
-        verify(memberRepository, times(1)).save(captor.capture());
+        verify(memberRepository, times(1)).saveAndFlush(captor.capture());
 
         MemberEntity saved = captor.getValue();
         assertThat(saved.getPhoneNumber()).isEqualTo("010-123-4567");
@@ -242,14 +288,12 @@ class MemberServiceTest {
     void saveUser_phoneNumberFormatting_11digits() {
         // given
         MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "01012345678");
-        when(memberRepository.existsByUserId("user123")).thenReturn(false);
-
         // when
         memberService.saveUser(dto);
 
         // then
         ArgumentCaptor<MemberEntity> captor = ArgumentCaptor.forClass(MemberEntity.class);
-        verify(memberRepository, times(1)).save(captor.capture());
+        verify(memberRepository, times(1)).saveAndFlush(captor.capture());
 
         MemberEntity saved = captor.getValue();
         assertThat(saved.getPhoneNumber()).isEqualTo("010-1234-5678");
@@ -261,21 +305,22 @@ class MemberServiceTest {
     void saveUser_validDto_savesSuccessfully() {
         // given
         MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "01012345678");
-        when(memberRepository.existsByUserId("user123")).thenReturn(false);
-
         // when
         memberService.saveUser(dto);
 
         // then
         ArgumentCaptor<MemberEntity> captor = ArgumentCaptor.forClass(MemberEntity.class);
-        verify(memberRepository, times(1)).save(captor.capture());
+        verify(memberRepository, times(1)).saveAndFlush(captor.capture());
 
         MemberEntity saved = captor.getValue();
         assertThat(saved.getUserId()).isEqualTo("user123");
         assertThat(saved.getUserName()).isEqualTo("홍길동");
-        assertThat(saved.getPassword()).isEqualTo("password123!");
-        assertThat(saved.getConfirmPassword()).isEqualTo("password123!");
+        assertThat(saved.getPassword()).isEqualTo("hashed:password123!"); // 평문이 아닌 해시 저장
+        assertThat(saved.getConfirmPassword()).isEqualTo("hashed:password123!");
         assertThat(saved.getPhoneNumber()).isEqualTo("010-1234-5678");
+        assertThat(saved.isNew()).isTrue(); // merge(SELECT) 없이 persist 되도록 새 엔티티로 표시
+        verify(memberRepository, never()).existsByUserId(any());
+        verify(memberIdIndex).add("user123");
     }
 
     // ===== 기본 회원가입 테스트 =====
@@ -301,7 +346,7 @@ class MemberServiceTest {
                 .isInstanceOf(PasswordMismatchException.class)
                 .hasMessageContaining("비밀번호가 일치하지 않습니다");
 
-        verify(memberRepository, never()).save(any(MemberEntity.class));
+        verify(memberRepository, never()).saveAndFlush(any(MemberEntity.class));
     }
 
 
@@ -325,12 +370,17 @@ class MemberServiceTest {
                 .hasMessageContaining("아이디와 비밀번호를 모두 입력해 주세요");
     }
 
+    private MemberCredential createCredential(String userId, String password) {
+        return new SpelAwareProxyProjectionFactory().createProjection(MemberCredential.class,
+                Map.of("userId", userId, "userName", "홍길동", "password", password, "phoneNumber", "010-1234-5678"));
+    }
+
     @Order(23)
     @Test
     @DisplayName("로그인 - 존재하지 않는 아이디")
     void login_userNotFound_throwsException() {
         // given
-        when(memberRepository.findByUserId("nonexistent")).thenReturn(Optional.empty());
+        when(memberRepository.findCredentialByUserId("nonexistent")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> memberService.login("nonexistent", "password"))
@@ -343,10 +393,9 @@ class MemberServiceTest {
     @DisplayName("로그인 - 비밀번호 불일치")
     void login_passwordMismatch_throwsException() {
         // given
-        MemberEntity entity = new MemberEntity();
-        entity.setUserId("user123");
-        entity.setPassword("correctPassword");
-        when(memberRepository.findByUserId("user123")).thenReturn(Optional.of(entity));
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "correctPassword")));
+        when(passwordHasher.matches("wrongPassword", "correctPassword")).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> memberService.login("user123", "wrongPassword"))
@@ -359,12 +408,9 @@ class MemberServiceTest {
     @DisplayName("로그인 - 성공 시 사용자 정보 DTO 반환")
     void login_success_returnsUserDto() {
         // given
-        MemberEntity entity = new MemberEntity();
-        entity.setUserId("user123");
-        entity.setUserName("홍길동");
-        entity.setPassword("password123");
-        entity.setPhoneNumber("010-1234-5678");
-        when(memberRepository.findByUserId("user123")).thenReturn(Optional.of(entity));
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "password123")));
+        when(passwordHasher.matches("password123", "password123")).thenReturn(true);
 
         // when
         MemberDTO result = memberService.login("user123", "password123");
@@ -376,4 +422,495 @@ class MemberServiceTest {
         assertThat(result.getPhoneNumber()).isEqualTo("010-1234-5678");
         assertThat(result.getPassword()).isNull(); // 비밀번호는 반환하지 않음
     }
+
+    // ===== 사용자 목록 페이지 테스트 =====
+
+    private MemberSummary createSummary(String userId) {
+        return new SpelAwareProxyProjectionFactory().createProjection(MemberSummary.class,
+                Map.of("userId", userId, "userName", "홍길동", "phoneNumber", "010-1234-5678"));
+    }
+
+    @Order(26)
+    @Test
+    @DisplayName("목록 - 오프셋 페이지 조회 시 아이디 정렬 및 페이지 크기 보정")
+    void findUserPage_clampsSizeAndSortsByUserId() {
+        // given
+        when(memberRepository.findAllBy(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createSummary("user1")), PageRequest.of(0, 100), false));
+
+        // when
+        Slice<MemberSummary> result = memberService.findUserPage(-1, 1000);
+
+        // then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(memberRepository).findAllBy(captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isZero();
+        assertThat(captor.getValue().getPageSize()).isEqualTo(MemberService.MAX_PAGE_SIZE);
+        assertThat(captor.getValue().getSort().getOrderFor("userId")).isNotNull();
+
+        assertThat(result.getContent()).extracting(MemberSummary::getUserId).containsExactly("user1");
+    }
+
+    @Order(27)
+    @Test
+    @DisplayName("목록 - 키셋 조회 시 size + 1건으로 다음 페이지 여부 판단")
+    void findUserSliceAfter_fetchesOneExtraRowForHasNext() {
+        // given
+        when(memberRepository.findByUserIdGreaterThanOrderByUserIdAsc("user1", Limit.of(3)))
+                .thenReturn(List.of(createSummary("user2"), createSummary("user3"), createSummary("user4")));
+
+        // when
+        Slice<MemberSummary> result = memberService.findUserSliceAfter("user1", 2);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(MemberSummary::getUserId).containsExactly("user2", "user3");
+    }
+
+    @Order(28)
+    @Test
+    @DisplayName("목록 - 키셋 마지막 페이지는 hasNext false")
+    void findUserSliceAfter_lastPage_hasNoNext() {
+        // given
+        when(memberRepository.findByUserIdGreaterThanOrderByUserIdAsc("", Limit.of(21)))
+                .thenReturn(List.of(createSummary("user1")));
+
+        // when
+        Slice<MemberSummary> result = memberService.findUserSliceAfter(null, 20);
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent()).hasSize(1);
+    }
+
+    @Order(29)
+    @Test
+    @DisplayName("목록 - 전체 사용자 수는 count 쿼리로 조회")
+    void countAllUser_usesCountQuery() {
+        when(memberRepository.count()).thenReturn(300L);
+
+        assertThat(memberService.countAllUser()).isEqualTo(300L);
+    }
+
+    @Order(30)
+    @Test
+    @DisplayName("목록 - 전체 조회 시 비밀번호 없이 프로젝션을 DTO로 변환")
+    void findAllUser_mapsProjectionWithoutPassword() {
+        // given
+        when(memberRepository.findAllProjectedByOrderByUserIdAsc()).thenReturn(List.of(createSummary("user1")));
+
+        // when
+        List<MemberDTO> result = memberService.findAllUser();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getUserId()).isEqualTo("user1");
+        assertThat(result.get(0).getPhoneNumber()).isEqualTo("010-1234-5678");
+        assertThat(result.get(0).getPassword()).isNull();
+        assertThat(result.get(0).getConfirmPassword()).isNull();
+        verify(memberRepository, never()).findAll();
+    }
+
+    // ===== 일괄 회원가입 테스트 =====
+
+    @Order(31)
+    @Test
+    @DisplayName("일괄 회원가입 - 검증 실패/배치 내 중복/DB 중복 행은 제외하고 나머지만 저장")
+    @SuppressWarnings("unchecked")
+    void saveUsers_reportsPerRowResults() {
+        // given
+        List<MemberDTO> dtos = List.of(
+                createDto("user1", "홍길동", "password123!", "password123!", "01012345678"),
+                createDto("us", "홍길동", "password123!", "password123!", "01012345678"),      // 아이디 형식 오류
+                createDto("user1", "이몽룡", "password123!", "password123!", "01012345678"),   // 배치 내 중복
+                createDto("dbUser", "성춘향", "password123!", "password123!", "01012345678"),  // DB 중복
+                createDto("user2", "성춘향", "password123!", "password123!", "0101234567"));
+        when(memberRepository.findExistingUserIds(any())).thenReturn(List.of("dbUser"));
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results).extracting(MemberBulkResultDTO::isSuccess)
+                .containsExactly(true, false, false, false, true);
+        assertThat(results.get(1).getMessage()).contains("아이디는 3~14자");
+        assertThat(results.get(2).getMessage()).contains("이미 사용 중인 아이디입니다");
+        assertThat(results.get(3).getMessage()).contains("이미 사용 중인 아이디입니다");
+
+        ArgumentCaptor<Collection<String>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(memberRepository, times(1)).findExistingUserIds(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly("user1", "dbUser", "user2");
+
+        ArgumentCaptor<List<MemberEntity>> entitiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository, times(1)).saveAllAndFlush(entitiesCaptor.capture());
+        assertThat(entitiesCaptor.getValue()).extracting(MemberEntity::getUserId).containsExactly("user1", "user2");
+        assertThat(entitiesCaptor.getValue()).extracting(MemberEntity::getPhoneNumber)
+                .containsExactly("010-1234-5678", "010-123-4567");
+        verify(memberRepository, never()).existsByUserId(any());
+        verify(memberIdIndex).add("user1");
+        verify(memberIdIndex).add("user2");
+    }
+
+    @Order(32)
+    @Test
+    @DisplayName("일괄 회원가입 - BULK_CHUNK_SIZE 단위로 나누어 저장")
+    void saveUsers_persistsInChunks() {
+        // given
+        List<MemberDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < MemberService.BULK_CHUNK_SIZE * 2 + 1; i++) {
+            dtos.add(createDto("user" + i, "홍길동", "password123!", "password123!", "01012345678"));
+        }
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results).allMatch(MemberBulkResultDTO::isSuccess);
+        verify(memberRepository, times(3)).saveAllAndFlush(any());
+        verify(memberRepository, times(1)).findExistingUserIds(any()); // 인덱스 응답과 무관하게 IN 쿼리 1회
+        verify(memberIdIndex, never()).mightContain(any());
+    }
+
+    @Order(33)
+    @Test
+    @DisplayName("일괄 회원가입 - 저장 중 제약조건 위반 시 해당 청크만 실패 처리")
+    void saveUsers_constraintViolation_marksChunkFailed() {
+        // given
+        List<MemberDTO> dtos = List.of(createDto("user1", "홍길동", "password123!", "password123!", "01012345678"));
+        when(memberRepository.saveAllAndFlush(any())).thenThrow(new DuplicateKeyException("Duplicate entry"));
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getMessage()).contains("이미 사용 중인 아이디입니다");
+    }
+
+    // ===== 아이디 사용 가능 여부 확인 테스트 =====
+
+    @Order(34)
+    @Test
+    @DisplayName("아이디 확인 - 형식 오류 시 DB 조회 없이 사용 불가")
+    void checkUserId_invalidFormat_skipsLookup() {
+        UserIdCheckDTO result = memberService.checkUserId("ab");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.isAvailable()).isFalse();
+        assertThat(result.getMessage()).contains("아이디는 3~14자");
+        verifyNoInteractions(memberIdIndex, memberRepository);
+    }
+
+    @Order(35)
+    @Test
+    @DisplayName("아이디 확인 - 인덱스가 확실히 미사용이라고 답하면 DB 조회 생략")
+    void checkUserId_definitelyAbsent_skipsDatabase() {
+        when(memberIdIndex.mightContain("newUser")).thenReturn(false);
+
+        UserIdCheckDTO result = memberService.checkUserId("newUser");
+
+        assertThat(result.isAvailable()).isTrue();
+        verify(memberRepository, never()).existsByUserId(any());
+    }
+
+    @Order(36)
+    @Test
+    @DisplayName("아이디 확인 - 인덱스가 사용 중일 수 있다고 답하면 DB로 확인")
+    void checkUserId_possibleHit_checksDatabase() {
+        when(memberIdIndex.mightContain("user123")).thenReturn(true);
+        when(memberRepository.existsByUserId("user123")).thenReturn(true);
+
+        UserIdCheckDTO result = memberService.checkUserId("user123");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.isAvailable()).isFalse();
+        assertThat(result.getMessage()).contains("이미 사용 중인 아이디입니다");
+        verify(memberIdIndex, never()).recordFalsePositive();
+    }
+
+    @Order(37)
+    @Test
+    @DisplayName("아이디 확인 - DB에 없으면 오탐으로 기록하고 사용 가능")
+    void checkUserId_falsePositive_recordsMetric() {
+        when(memberIdIndex.mightContain("user123")).thenReturn(true);
+        when(memberRepository.existsByUserId("user123")).thenReturn(false);
+
+        UserIdCheckDTO result = memberService.checkUserId("user123");
+
+        assertThat(result.isAvailable()).isTrue();
+        verify(memberIdIndex).recordFalsePositive();
+    }
+
+    // ===== 비밀번호 해시 테스트 =====
+
+    @Order(38)
+    @Test
+    @DisplayName("로그인 - 평문으로 저장된 비밀번호는 로그인 성공 시 해시로 교체")
+    void login_legacyPlaintext_rehashesPassword() {
+        // given
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "password123")));
+        when(passwordHasher.matches("password123", "password123")).thenReturn(true);
+        when(passwordHasher.needsRehash("password123")).thenReturn(true);
+
+        // when
+        MemberDTO result = memberService.login("user123", "password123");
+
+        // then
+        assertThat(result.getUserId()).isEqualTo("user123");
+        verify(memberRepository).updatePassword("user123", "password123", "hashed:password123");
+    }
+
+    @Order(39)
+    @Test
+    @DisplayName("로그인 - 해시 풀 포화로 재해시하지 못해도 로그인은 성공")
+    void login_rehashRejected_stillSucceeds() {
+        // given
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "password123")));
+        when(passwordHasher.matches("password123", "password123")).thenReturn(true);
+        when(passwordHasher.needsRehash("password123")).thenReturn(true);
+        when(passwordHasher.encode("password123")).thenThrow(new ServiceBusyException());
+
+        // when
+        MemberDTO result = memberService.login("user123", "password123");
+
+        // then
+        assertThat(result.getUserId()).isEqualTo("user123");
+        verify(memberRepository, never()).updatePassword(any(), any(), any());
+    }
+
+    @Order(40)
+    @Test
+    @DisplayName("일괄 회원가입 - 해시 풀 포화 시 해당 청크만 실패 처리")
+    void saveUsers_hasherBusy_marksChunkFailed() {
+        // given
+        List<MemberDTO> dtos = List.of(createDto("user1", "홍길동", "password123!", "password123!", "01012345678"));
+        when(passwordHasher.encodeAll(anyList())).thenThrow(new ServiceBusyException());
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getMessage()).contains("잠시 후 다시 시도해 주세요");
+        verify(memberRepository, never()).saveAllAndFlush(any());
+        verify(memberIdIndex, never()).add(any());
+    }
+
+    // ===== 유효성 검증 예외 테스트 =====
+
+    @Order(41)
+    @Test
+    @DisplayName("회원가입 - 검증 실패 예외는 stack trace 없이 미리 만든 인스턴스를 재사용")
+    void saveUser_validationFailure_throwsStacklessCachedInstance() {
+        // given
+        MemberDTO dto = createDto("ab", "홍길동", "password123!", "password123!", "01012345678");
+
+        // when
+        Throwable first = catchThrowable(() -> memberService.saveUser(dto));
+        Throwable second = catchThrowable(() -> memberService.saveUser(dto));
+
+        // then
+        assertThat(first).isInstanceOf(InvalidUserIdException.class).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        verifyNoInteractions(passwordHasher);
+    }
+
+    // ===== 휴대전화번호 정규화 테스트 =====
+
+    @Order(42)
+    @Test
+    @DisplayName("회원가입 - 하이픈/공백/+82 국가번호가 섞인 전화번호는 정규화하여 저장")
+    void saveUser_phoneNumberWithSeparators_normalizes() {
+        // given
+        MemberDTO dto = createDto("user123", "홍길동", "password123!", "password123!", "+82 10-1234 5678");
+
+        // when
+        memberService.saveUser(dto);
+
+        // then
+        ArgumentCaptor<MemberEntity> captor = ArgumentCaptor.forClass(MemberEntity.class);
+        verify(memberRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getPhoneNumber()).isEqualTo("010-1234-5678");
+    }
+
+    @Order(43)
+    @Test
+    @DisplayName("전화번호 조회 - 입력값을 정규화하여 조회하고, 형식 오류면 DB 조회 생략")
+    void findUsersByPhoneNumber_normalizesInput() {
+        // given
+        when(memberRepository.findByPhoneNumberOrderByUserIdAsc("010-1234-5678")).thenReturn(List.of(createSummary("user1")));
+
+        // when
+        List<MemberSummary> found = memberService.findUsersByPhoneNumber("01012345678");
+        List<MemberSummary> invalid = memberService.findUsersByPhoneNumber("010-12");
+
+        // then
+        assertThat(found).extracting(MemberSummary::getUserId).containsExactly("user1");
+        assertThat(invalid).isEmpty();
+        verify(memberRepository, times(1)).findByPhoneNumberOrderByUserIdAsc(any());
+    }
+
+    // ===== 지표 테스트 =====
+
+    @Order(44)
+    @Test
+    @DisplayName("로그인 실패 - 사유별 member.login.failures 카운터 증가")
+    void login_failures_countedByReason() {
+        // given
+        when(memberRepository.findCredentialByUserId("unknown")).thenReturn(Optional.empty());
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "hashed:password123")));
+        when(passwordHasher.matches("wrong-password", "hashed:password123")).thenReturn(false);
+
+        // when
+        catchThrowable(() -> memberService.login("", "password123"));
+        catchThrowable(() -> memberService.login("unknown", "password123"));
+        catchThrowable(() -> memberService.login("user123", "wrong-password"));
+        catchThrowable(() -> memberService.login("user123", "wrong-password"));
+
+        // then
+        assertThat(meterRegistry.get("member.login.failures").tag("reason", "missing_fields").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.login.failures").tag("reason", "unknown_user").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.login.failures").tag("reason", "bad_password").counter().count()).isEqualTo(2);
+    }
+
+    @Order(45)
+    @Test
+    @DisplayName("아이디 중복 - 회원가입/일괄 회원가입/아이디 확인별 member.register.duplicates 카운터 증가")
+    void duplicates_countedBySource() {
+        // given
+        when(memberRepository.saveAndFlush(any())).thenThrow(new DuplicateKeyException("duplicate"));
+        when(memberIdIndex.mightContain(any())).thenReturn(true);
+        when(memberRepository.existsByUserId("user123")).thenReturn(true);
+        List<MemberDTO> dtos = List.of(
+                createDto("user1", "홍길동", "password123!", "password123!", "01012345678"),
+                createDto("user1", "홍길동", "password123!", "password123!", "01012345678"));
+
+        // when
+        catchThrowable(() -> memberService.saveUser(createDto("user123", "홍길동", "password123!", "password123!", "01012345678")));
+        memberService.saveUsers(dtos);
+        memberService.checkUserId("user123");
+
+        // then
+        assertThat(meterRegistry.get("member.register.duplicates").tag("source", "register").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.register.duplicates").tag("source", "bulk").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.register.duplicates").tag("source", "check").counter().count()).isEqualTo(1);
+    }
+
+    @Order(46)
+    @Test
+    @DisplayName("테이블 버전 - 저장에 성공한 경우에만 증가(회원가입, 일괄 회원가입 청크)")
+    void tableVersion_bumpsOnlyOnSuccessfulSave() {
+        // given
+        when(memberRepository.saveAndFlush(any()))
+                .thenReturn(null)
+                .thenThrow(new DuplicateKeyException("duplicate"));
+        when(memberRepository.saveAllAndFlush(any()))
+                .thenReturn(List.of())
+                .thenThrow(new DuplicateKeyException("duplicate"));
+        List<MemberDTO> dtos = List.of(createDto("user1", "홍길동", "password123!", "password123!", "01012345678"));
+
+        // when
+        memberService.saveUser(createDto("user123", "홍길동", "password123!", "password123!", "01012345678"));
+        catchThrowable(() -> memberService.saveUser(createDto("user123", "홍길동", "password123!", "password123!", "01012345678")));
+        catchThrowable(() -> memberService.saveUser(null));
+        memberService.saveUsers(dtos);
+        memberService.saveUsers(dtos);
+
+        // then - 성공한 회원가입 1회 + 성공한 청크 1회
+        verify(tableVersion, times(2)).bump();
+    }
+
+    @Order(47)
+    @Test
+    @DisplayName("전체 조회 - 스트리밍 쿼리 결과를 reader에 넘기고 반환 후 Stream을 닫음")
+    void readAllUsers_passesStreamAndClosesIt() {
+        // given
+        boolean[] closed = {false};
+        when(memberRepository.streamAllByOrderByUserIdAsc())
+                .thenReturn(Stream.of(createSummary("user1")).onClose(() -> closed[0] = true));
+
+        // when
+        long count = memberService.readAllUsers(Stream::count);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(closed[0]).isTrue();
+    }
+
+    @Order(48)
+    @Test
+    @DisplayName("회원가입 - 중복이 아닌 제약조건 위반(컬럼 길이 초과)은 아이디 중복으로 바꾸지 않고 그대로 던짐")
+    void saveUser_nonDuplicateConstraintViolation_rethrows() {
+        // given
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Data too long for column 'password' at row 1", "22001", 1406));
+        when(memberRepository.saveAndFlush(any(MemberEntity.class))).thenThrow(tooLong);
+
+        // when & then
+        assertThatThrownBy(() -> memberService.saveUser(createDto("user123", "홍길동", "password123!", "password123!", "01012345678")))
+                .isSameAs(tooLong);
+        verify(memberIdIndex, never()).add(any());
+        assertThat(meterRegistry.get("member.register.duplicates").tag("source", "register").counter().count()).isZero();
+    }
+
+    @Order(49)
+    @Test
+    @DisplayName("일괄 회원가입 - 중복이 아닌 제약조건 위반은 청크를 저장 오류로 실패 처리(아이디 중복으로 표시하지 않음)")
+    void saveUsers_nonDuplicateConstraintViolation_marksChunkSaveFailed() {
+        // given
+        List<MemberDTO> dtos = List.of(createDto("user1", "홍길동", "password123!", "password123!", "01012345678"));
+        when(memberRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Column 'user_name' cannot be null", "23000", 1048)));
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getMessage()).isEqualTo(MemberService.BULK_SAVE_FAILED_MESSAGE);
+        assertThat(meterRegistry.get("member.register.duplicates").tag("source", "bulk").counter().count()).isZero();
+    }
+
+    @Order(50)
+    @Test
+    @DisplayName("일괄 회원가입 - 아이디 중복은 대소문자 구분 없이 판단(배치 내부, DB)")
+    void saveUsers_duplicateCheckIgnoresCase() {
+        // given
+        List<MemberDTO> dtos = List.of(
+                createDto("user1", "홍길동", "password123!", "password123!", "01012345678"),
+                createDto("USER1", "이몽룡", "password123!", "password123!", "01012345678"),   // 배치 내 중복
+                createDto("DbUser", "성춘향", "password123!", "password123!", "01012345678")); // DB에는 dbuser로 저장됨
+        when(memberRepository.findExistingUserIds(any())).thenReturn(List.of("dbuser"));
+
+        // when
+        List<MemberBulkResultDTO> results = memberService.saveUsers(dtos);
+
+        // then
+        assertThat(results).extracting(MemberBulkResultDTO::isSuccess).containsExactly(true, false, false);
+        assertThat(results.get(2).getUserId()).isEqualTo("DbUser");
+        assertThat(results.get(2).getMessage()).contains("이미 사용 중인 아이디입니다");
+    }
+
+    @Order(51)
+    @Test
+    @DisplayName("로그인 - 재해시 저장이 DB 오류로 실패해도 로그인은 성공")
+    void login_rehashUpdateFails_stillSucceeds() {
+        // given
+        when(memberRepository.findCredentialByUserId("user123"))
+                .thenReturn(Optional.of(createCredential("user123", "password123")));
+        when(passwordHasher.matches("password123", "password123")).thenReturn(true);
+        when(passwordHasher.needsRehash("password123")).thenReturn(true);
+        when(memberRepository.updatePassword(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'password' at row 1"));
+
+        // when
+        MemberDTO result = memberService.login("user123", "password123");
+
+        // then
+        assertThat(result.getUserId()).isEqualTo("user123");
+    }
 }
@@ -0,0 +1,217 @@
+package net.datasa.firstproject.service;
+
+import net.datasa.firstproject.dto.MemberDTO;
+import net.datasa.firstproject.exception.*;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MemberValidator가 이전 정규식 검증과 같은 결과(예외 종류와 메시지)를 내는지 무작위 입력으로 확인합니다.
+ */
+class MemberValidatorPropertyTest {
+    // 이전 정규식(비교 기준)
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{3,14}$");
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=\\-]{8,14}$");
+    private static final Pattern USER_NAME_PATTERN = Pattern.compile("^[가-힣]{2,20}$");
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[0-9]{10,11}$");
+    // 휴대전화번호는 하이픈/공백/+82 국가번호를 허용하도록 확장됨(숫자만 남긴 뒤 PHONE_NUMBER_PATTERN으로 검사)
+    private static final Pattern PHONE_INPUT_PATTERN = Pattern.compile("^(\\+82)?[0-9 \\-]*$");
+
+    private static final String ACCOUNT_CHARS = "ABCXYZabcxyz0189!@#$%^&*()_+=-";
+    // 허용 범위 경계 바로 바깥 문자와 공백/제어 문자, 유사 문자(한글 자모, 전각 숫자 등)
+    private static final String EDGE_CHARS = " \t\n\r\u0000\u001F .~`/:@[{ㄱㅏ꯿힤１٠+-";
+    private static final String BLANK_CHARS = " \t\n\r\u0000\u000B\u001F ";
+
+    private final MemberValidator memberValidator = new MemberValidator();
+
+    @Property(tries = 2000)
+    @Label("아이디 - 문자 단위 검증 결과가 정규식과 동일")
+    void userId_matchesRegex(@ForAll("fieldValues") String userId) {
+        assertThat(MemberValidator.isValidUserId(userId)).isEqualTo(USER_ID_PATTERN.matcher(userId).matches());
+    }
+
+    @Property(tries = 2000)
+    @Label("비밀번호 - 문자 단위 검증 결과가 정규식과 동일")
+    void password_matchesRegex(@ForAll("fieldValues") String password) {
+        assertThat(MemberValidator.isValidPassword(password)).isEqualTo(PASSWORD_PATTERN.matcher(password).matches());
+    }
+
+    @Property(tries = 2000)
+    @Label("이름 - 문자 단위 검증 결과가 정규식과 동일")
+    void userName_matchesRegex(@ForAll("fieldValues") String userName) {
+        assertThat(MemberValidator.isValidUserName(userName)).isEqualTo(USER_NAME_PATTERN.matcher(userName).matches());
+    }
+
+    @Property(tries = 2000)
+    @Label("휴대전화번호 - 문자 단위 검증 결과가 정규식과 동일")
+    void phoneNumber_matchesRegex(@ForAll("fieldValues") String phoneNumber) {
+        assertThat(MemberValidator.isValidPhoneNumber(phoneNumber)).isEqualTo(isValidPhoneInput(phoneNumber));
+    }
+
+    @Property(tries = 2000)
+    @Label("공백 검사 - trim().isEmpty()와 동일")
+    void isBlank_matchesTrim(@ForAll("nullableFieldValues") String value) {
+        assertThat(MemberValidator.isBlank(value)).isEqualTo(value == null || value.trim().isEmpty());
+    }
+
+    @Property(tries = 5000)
+    @Label("회원가입 검증 - 이전 검증과 같은 예외 종류와 메시지")
+    void findViolation_matchesRegexValidation(@ForAll("members") MemberDTO dto) {
+        ValidationException expected = catchRegexViolation(dto);
+        ValidationException actual = memberValidator.findViolation(dto);
+
+        if (expected == null) {
+            assertThat(actual).isNull();
+        } else {
+            assertThat(actual).isExactlyInstanceOf(expected.getClass()).hasMessage(expected.getMessage());
+        }
+    }
+
+    @Property(tries = 2000)
+    @Label("아이디 확인 - 이전 검증과 같은 예외 종류와 메시지")
+    void findUserIdViolation_matchesRegexValidation(@ForAll("nullableFieldValues") String userId) {
+        ValidationException actual = memberValidator.findUserIdViolation(userId);
+
+        if (userId == null || userId.trim().isEmpty()) {
+            assertThat(actual).isExactlyInstanceOf(MissingFieldException.class).hasMessage("아이디를 입력해 주세요.");
+        } else if (!USER_ID_PATTERN.matcher(userId).matches()) {
+            assertThat(actual).isExactlyInstanceOf(InvalidUserIdException.class);
+        } else {
+            assertThat(actual).isNull();
+        }
+    }
+
+    @Example
+    @Label("회원가입 검증 - DTO null")
+    void findViolation_nullDto() {
+        assertThat(memberValidator.findViolation(null))
+                .isExactlyInstanceOf(MissingFieldException.class)
+                .hasMessage("회원가입 정보가 전달되지 않았습니다.");
+    }
+
+    @Example
+    @Label("회원가입 검증 - 경계 길이 통과")
+    void findViolation_boundaryLengths_pass() {
+        MemberDTO dto = new MemberDTO();
+        dto.setUserId("a-z");
+        dto.setPassword("12345678901234");
+        dto.setConfirmPassword("12345678901234");
+        dto.setUserName("가힣");
+        dto.setPhoneNumber("0101234567");
+
+        assertThat(memberValidator.findViolation(dto)).isNull();
+    }
+
+    @Provide
+    Arbitrary<String> fieldValues() {
+        return Arbitraries.oneOf(
+                Arbitraries.strings().withChars(ACCOUNT_CHARS).ofMaxLength(16),
+                Arbitraries.strings().withCharRange('가', '힣').ofMaxLength(22),
+                Arbitraries.strings().numeric().ofMaxLength(13),
+                Arbitraries.strings().withChars(ACCOUNT_CHARS).withChars(EDGE_CHARS).ofMaxLength(16),
+                Arbitraries.strings().withCharRange('가', '힣').withChars(EDGE_CHARS).ofMaxLength(22),
+                Arbitraries.strings().numeric().withChars(EDGE_CHARS).ofMaxLength(13),
+                Arbitraries.strings().numeric().withChars(" -").ofMaxLength(15).map(digits -> "+82" + digits),
+                Arbitraries.strings().withChars(BLANK_CHARS).ofMaxLength(3));
+    }
+
+    @Provide
+    Arbitrary<String> nullableFieldValues() {
+        return fieldValues().injectNull(0.05);
+    }
+
+    @Provide
+    Arbitrary<MemberDTO> members() {
+        Arbitrary<String> userIds = Arbitraries.oneOf(
+                Arbitraries.strings().withChars(ACCOUNT_CHARS).ofMinLength(3).ofMaxLength(14), nullableFieldValues());
+        Arbitrary<String> passwords = Arbitraries.oneOf(
+                Arbitraries.strings().withChars(ACCOUNT_CHARS).ofMinLength(8).ofMaxLength(14), nullableFieldValues());
+        Arbitrary<String> userNames = Arbitraries.oneOf(
+                Arbitraries.strings().withCharRange('가', '힣').ofMinLength(2).ofMaxLength(20), nullableFieldValues());
+        Arbitrary<String> phoneNumbers = Arbitraries.oneOf(
+                Arbitraries.strings().numeric().ofMinLength(10).ofMaxLength(11),
+                Arbitraries.strings().numeric().withChars(" -").ofMinLength(10).ofMaxLength(15), nullableFieldValues());
+
+        return Combinators.combine(userIds, passwords, passwords, Arbitraries.of(true, false), userNames, phoneNumbers)
+                .as((userId, password, otherPassword, sameConfirm, userName, phoneNumber) -> {
+                    MemberDTO dto = new MemberDTO();
+                    dto.setUserId(userId);
+                    dto.setPassword(password);
+                    dto.setConfirmPassword(sameConfirm ? password : otherPassword);
+                    dto.setUserName(userName);
+                    dto.setPhoneNumber(phoneNumber);
+                    return dto;
+                });
+    }
+
+    /**
+     * 이전 MemberService.validateMember(정규식 검증)를 그대로 옮긴 비교 기준
+     */
+    private static ValidationException catchRegexViolation(MemberDTO dto) {
+        if (isNullOrEmpty(dto.getUserId())) {
+            return new MissingFieldException("아이디를");
+        }
+        if (isNullOrEmpty(dto.getPassword())) {
+            return new MissingFieldException("비밀번호를");
+        }
+        if (isNullOrEmpty(dto.getConfirmPassword())) {
+            return new MissingFieldException("비밀번호 확인을");
+        }
+        if (isNullOrEmpty(dto.getUserName())) {
+            return new MissingFieldException("이름을");
+        }
+        if (isNullOrEmpty(dto.getPhoneNumber())) {
+            return new MissingFieldException("휴대전화번호를");
+        }
+        if (!USER_ID_PATTERN.matcher(dto.getUserId()).matches()) {
+            return new InvalidUserIdException();
+        }
+        if (!PASSWORD_PATTERN.matcher(dto.getPassword()).matches()) {
+            return new InvalidPasswordException();
+        }
+        if (!PASSWORD_PATTERN.matcher(dto.getConfirmPassword()).matches()) {
+            return new InvalidPasswordException("비밀번호 확인은 8~14자, 영문/숫자/특수문자만 가능합니다.");
+        }
+        if (!USER_NAME_PATTERN.matcher(dto.getUserName()).matches()) {
+            return new InvalidUserNameException();
+        }
+        if (!isValidPhoneInput(dto.getPhoneNumber())) {
+            return new InvalidPhoneNumberException();
+        }
+        if (!dto.getPassword().equals(dto.getConfirmPassword())) {
+            return new PasswordMismatchException();
+        }
+        return null;
+    }
+
+    /**
+     * 하이픈/공백/+82 국가번호를 제거한 숫자가 PHONE_NUMBER_PATTERN을 만족하는지 검사
+     */
+    private static boolean isValidPhoneInput(String phoneNumber) {
+        if (!PHONE_INPUT_PATTERN.matcher(phoneNumber).matches()) {
+            return false;
+        }
+        String digits = phoneNumber.replaceAll("[^0-9]", "");
+        if (phoneNumber.startsWith("+82")) {
+            digits = digits.substring(2);
+            if (!digits.startsWith("0")) {
+                digits = "0" + digits;
+            }
+        }
+        return PHONE_NUMBER_PATTERN.matcher(digits).matches();
+    }
+
+    private static boolean isNullOrEmpty(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
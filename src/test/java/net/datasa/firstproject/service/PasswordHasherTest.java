@@ -0,0 +1,114 @@
+package net.datasa.firstproject.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.datasa.firstproject.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class PasswordHasherTest {
+
+    // 테스트 속도를 위해 최소 비용 사용
+    private static final int STRENGTH = 4;
+
+    private MeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(meterRegistry, STRENGTH, 2, 4, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("비밀번호 해시 - BCrypt 해시로 저장되고 원문과 대조 가능")
+    void encode_producesMatchingBcryptHash() {
+        String hash = passwordHasher.encode("password123!");
+
+        assertThat(hash).startsWith("$2a$04$").hasSize(60);
+        assertThat(passwordHasher.matches("password123!", hash)).isTrue();
+        assertThat(passwordHasher.matches("password123@", hash)).isFalse();
+        assertThat(passwordHasher.needsRehash(hash)).isFalse();
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("비밀번호 해시 - 평문으로 저장된 이전 비밀번호도 대조하며 재해시 대상")
+    void matches_legacyPlaintext_requiresRehash() {
+        assertThat(passwordHasher.matches("password123!", "password123!")).isTrue();
+        assertThat(passwordHasher.matches("password123@", "password123!")).isFalse();
+        assertThat(passwordHasher.needsRehash("password123!")).isTrue();
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("비밀번호 해시 - 현재 설정보다 낮은 비용의 해시는 재해시 대상")
+    void needsRehash_lowerStrength_returnsTrue() {
+        PasswordHasher stronger = new PasswordHasher(new SimpleMeterRegistry(), STRENGTH + 1, 1, 1, Duration.ofSeconds(5));
+        try {
+            String hash = passwordHasher.encode("password123!");
+
+            assertThat(stronger.matches("password123!", hash)).isTrue();
+            assertThat(stronger.needsRehash(hash)).isTrue();
+        } finally {
+            stronger.shutdown();
+        }
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("비밀번호 해시 - 일괄 해시 결과는 입력 순서를 유지")
+    void encodeAll_preservesOrder() {
+        List<String> raw = List.of("password1!", "password2!", "password3!", "password4!", "password5!");
+
+        List<String> hashes = passwordHasher.encodeAll(raw);
+
+        assertThat(hashes).hasSize(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            assertThat(passwordHasher.matches(raw.get(i), hashes.get(i))).isTrue();
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("비밀번호 해시 - 풀과 대기 큐가 가득 차면 기다리지 않고 ServiceBusyException")
+    void encode_saturatedPool_rejectsImmediately() throws Exception {
+        // given - 스레드 1개, 대기 큐 1개를 느린 작업(높은 비용)으로 채움
+        MeterRegistry saturatedRegistry = new SimpleMeterRegistry();
+        PasswordHasher saturated = new PasswordHasher(saturatedRegistry, 14, 1, 1, Duration.ofSeconds(30));
+        try {
+            CompletableFuture.runAsync(() -> saturated.encode("password123!"));
+            CompletableFuture.runAsync(() -> saturated.encode("password123!"));
+            while (saturatedRegistry.get("executor.queued").tag("name", "member.password").gauge().value() < 1) {
+                Thread.sleep(10);
+            }
+
+            // when & then
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> saturated.encode("password123!"))
+                    .isInstanceOf(ServiceBusyException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            assertThat(saturatedRegistry.get("member.password.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            saturated.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package net.datasa.firstproject.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class PhoneNumbersTest {
+
+    @Order(1)
+    @Test
+    @DisplayName("전화번호 정규화 - 숫자/하이픈/공백/+82 입력을 같은 형태로 변환")
+    void normalize_commonInputForms() {
+        assertThat(PhoneNumbers.normalize("01012345678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("010-1234-5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("010 1234 5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("+82 10-1234-5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("+821012345678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("+82 010 1234 5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("0101234567")).isEqualTo("010-123-4567");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("전화번호 정규화 - 자릿수가 맞지 않거나 허용하지 않는 문자가 있으면 null")
+    void normalize_invalidInputs_returnNull() {
+        assertThat(PhoneNumbers.normalize(null)).isNull();
+        assertThat(PhoneNumbers.normalize("")).isNull();
+        assertThat(PhoneNumbers.normalize("010-123-456")).isNull();        // 9자리
+        assertThat(PhoneNumbers.normalize("010-1234-56789")).isNull();     // 12자리
+        assertThat(PhoneNumbers.normalize("010.1234.5678")).isNull();
+        assertThat(PhoneNumbers.normalize("010-abcd-5678")).isNull();
+        assertThat(PhoneNumbers.normalize("+82")).isNull();
+        assertThat(PhoneNumbers.normalize("82 10 1234 5678")).isNull();    // + 없는 국가번호는 12자리
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("전화번호 키 - 입력 형태가 달라도 같은 번호면 같은 키, 자릿수가 다르면 다른 키")
+    void pack_sameNumberSameKey() {
+        long key = PhoneNumbers.pack("010-1234-5678");
+
+        assertThat(PhoneNumbers.pack("+82 10 1234 5678")).isEqualTo(key);
+        assertThat(PhoneNumbers.pack("01012345678")).isEqualTo(key);
+        assertThat(PhoneNumbers.pack("0101234567")).isNotEqualTo(PhoneNumbers.pack("00101234567"));
+        assertThat(PhoneNumbers.pack("010-12")).isEqualTo(PhoneNumbers.INVALID);
+        assertThat(PhoneNumbers.format(key)).isEqualTo("010-1234-5678");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("전화번호 포맷팅 - StringBuilder를 재사용하여 이어 쓰기")
+    void formatTo_appendsToReusedBuilder() {
+        StringBuilder out = new StringBuilder();
+
+        PhoneNumbers.formatTo(PhoneNumbers.pack("01012345678"), out);
+        out.append(',');
+        PhoneNumbers.formatTo(PhoneNumbers.pack("0212345678"), out);
+
+        assertThat(out.toString()).isEqualTo("010-1234-5678,021-234-5678");
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("전화번호 정규화 - 버퍼를 재사용해도 이전 내용이 섞이지 않음")
+    void normalize_reusedBuffer_clearsPreviousContent() {
+        StringBuilder buffer = new StringBuilder("stale");
+
+        assertThat(PhoneNumbers.normalize("+82 10 1234 5678", buffer)).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumbers.normalize("0101234567", buffer)).isEqualTo("010-123-4567");
+        assertThat(PhoneNumbers.normalize("010-abcd-5678", buffer)).isNull();
+    }
+}
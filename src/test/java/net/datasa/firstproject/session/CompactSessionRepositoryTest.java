@@ -0,0 +1,170 @@
+package net.datasa.firstproject.session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class CompactSessionRepositoryTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(60);
+
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private CompactSessionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CompactSessionRepository(TIMEOUT, meterRegistry, clock);
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("세션 저장소 - 로그인 정보(userId, userName)를 저장 후 그대로 복원")
+    void save_loginAttributes_roundTrip() {
+        // given
+        CompactSession session = repository.createSession();
+        session.setAttribute(CompactSession.USER_ID, "user123");
+        session.setAttribute(CompactSession.USER_NAME, "홍길동");
+
+        // when
+        repository.save(session);
+        CompactSession found = repository.findById(session.getId());
+
+        // then
+        assertThat(found.<String>getAttribute("userId")).isEqualTo("user123");
+        assertThat(found.<String>getAttribute("userName")).isEqualTo("홍길동");
+        assertThat(found.getAttributeNames()).containsExactly("userId", "userName");
+        assertThat(found.getCreationTime()).isEqualTo(clock.instant());
+        assertThat(found.getMaxInactiveInterval()).isEqualTo(TIMEOUT);
+        assertThat(meterRegistry.get("member.session.active").gauge().value()).isEqualTo(1);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("세션 저장소 - 속성 제거와 그 밖의 속성(문자열이 아닌 값 포함)도 보관")
+    void save_removedAndExtraAttributes() {
+        // given
+        CompactSession session = repository.createSession();
+        session.setAttribute(CompactSession.USER_ID, "user123");
+        session.setAttribute("flash", List.of("message"));
+        repository.save(session);
+
+        // when
+        CompactSession found = repository.findById(session.getId());
+        found.removeAttribute(CompactSession.USER_ID);
+        repository.save(found);
+        CompactSession reloaded = repository.findById(session.getId());
+
+        // then
+        assertThat(reloaded.<String>getAttribute("userId")).isNull();
+        assertThat(reloaded.<List<String>>getAttribute("flash")).containsExactly("message");
+        assertThat(reloaded.getAttributeNames()).containsExactly("flash");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("세션 저장소 - 만료된 세션은 조회되지 않고, 정리 작업이 만료 세션만 제거")
+    void cleanUp_removesOnlyExpiredSessions() {
+        // given
+        CompactSession idle = repository.createSession();
+        repository.save(idle);
+        clock.advance(Duration.ofMinutes(30));
+        CompactSession active = repository.createSession();
+        repository.save(active);
+
+        // when
+        clock.advance(Duration.ofMinutes(31));
+        repository.cleanUpExpiredSessions();
+
+        // then
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.findById(idle.getId())).isNull();
+        assertThat(repository.findById(active.getId())).isNotNull();
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(repository.findById(active.getId())).isNull();
+        assertThat(repository.size()).isZero();
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("세션 저장소 - 세션 아이디 변경 후 저장하면 이전 아이디는 제거")
+    void save_changedSessionId_removesOriginal() {
+        // given
+        CompactSession session = repository.createSession();
+        repository.save(session);
+        CompactSession found = repository.findById(session.getId());
+
+        // when
+        String originalId = found.getId();
+        String newId = found.changeSessionId();
+        repository.save(found);
+
+        // then
+        assertThat(repository.findById(originalId)).isNull();
+        assertThat(repository.findById(newId)).isNotNull();
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("세션 저장소 - 세션 만료 여부는 저장소 시계 기준")
+    void isExpired_followsRepositoryClock() {
+        // given
+        CompactSession session = repository.createSession();
+        repository.save(session);
+        CompactSession found = repository.findById(session.getId());
+        assertThat(found.isExpired()).isFalse();
+
+        // when
+        clock.advance(TIMEOUT.plusMinutes(1));
+
+        // then
+        assertThat(found.isExpired()).isTrue();
+    }
+
+    /**
+     * 테스트에서 시간을 진행시킬 수 있는 Clock
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
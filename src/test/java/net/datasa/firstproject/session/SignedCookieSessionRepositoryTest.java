@@ -0,0 +1,135 @@
+package net.datasa.firstproject.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(value = org.junit.jupiter.api.MethodOrderer.OrderAnnotation.class)
+class SignedCookieSessionRepositoryTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(60);
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String KEY_1 = "k1:" + secret('1');
+    private static final String KEY_2 = "k2:" + secret('2');
+
+    private static String secret(char fill) {
+        byte[] bytes = new byte[32];
+        Arrays.fill(bytes, (byte) fill);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static SignedCookieSessionRepository repository(Instant now, String... keys) {
+        return new SignedCookieSessionRepository(List.of(keys), TIMEOUT, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String login(SignedCookieSessionRepository repository) {
+        SignedCookieSession session = repository.createSession();
+        session.setAttribute("userId", "user123");
+        session.setAttribute("userName", "홍길동");
+        repository.save(session);
+        return session.getId();
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("서명 쿠키 - 다른 노드(같은 키)에서 저장소 조회 없이 로그인 정보 복원")
+    void findById_onOtherNode_restoresLoginAttributes() {
+        String token = login(repository(NOW, KEY_1));
+
+        SignedCookieSession found = repository(NOW.plusSeconds(60), KEY_1).findById(token);
+
+        assertThat(token).startsWith("k1.");
+        assertThat(found.<String>getAttribute("userId")).isEqualTo("user123");
+        assertThat(found.<String>getAttribute("userName")).isEqualTo("홍길동");
+        assertThat(found.getCreationTime()).isEqualTo(NOW);
+        assertThat(found.getMaxInactiveInterval()).isEqualTo(TIMEOUT);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("서명 쿠키 - 변조/만료/알 수 없는 키의 토큰은 거절")
+    void findById_invalidTokens_returnNull() {
+        SignedCookieSessionRepository repository = repository(NOW, KEY_1);
+        String token = login(repository);
+        String[] parts = token.split("\\.");
+        byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+        payload[payload.length - 1] ^= 1; // userName 마지막 바이트 변조
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + "." + parts[2];
+
+        assertThat(repository.findById(tampered)).isNull();
+        assertThat(repository.findById("k1." + parts[1] + "." + parts[1])).isNull();
+        assertThat(repository.findById("not-a-token")).isNull();
+        assertThat(repository(NOW.plus(TIMEOUT), KEY_1).findById(token)).isNull();
+        assertThat(repository(NOW, KEY_2).findById(token)).isNull();
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("서명 쿠키 - 키 교체 중에는 새 키로 서명하고 이전 키 토큰도 검증")
+    void keyRotation_signsWithFirstKeyAndVerifiesOthers() {
+        String oldToken = login(repository(NOW, KEY_1));
+        SignedCookieSessionRepository rotated = repository(NOW, KEY_2, KEY_1);
+
+        assertThat(rotated.keyIds()).containsExactly("k2", "k1");
+        assertThat(rotated.findById(oldToken).<String>getAttribute("userId")).isEqualTo("user123");
+        assertThat(login(rotated)).startsWith("k2.");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("서명 쿠키 - 로그인 정보가 그대로이면 재발급하지 않고, 만료가 가까우면 연장, 로그아웃 시 새 토큰")
+    void save_reissuesOnlyWhenNeeded() {
+        String token = login(repository(NOW, KEY_1));
+
+        // 10분 뒤 요청: 남은 시간이 절반 이상이므로 쿠키 유지
+        SignedCookieSessionRepository later = repository(NOW.plus(Duration.ofMinutes(10)), KEY_1);
+        SignedCookieSession session = later.findById(token);
+        later.save(session);
+        assertThat(session.getId()).isEqualTo(token);
+
+        // 40분 뒤 요청: 남은 시간이 절반 미만이므로 만료 시각을 연장한 새 토큰
+        SignedCookieSessionRepository muchLater = repository(NOW.plus(Duration.ofMinutes(40)), KEY_1);
+        SignedCookieSession refreshed = muchLater.findById(token);
+        muchLater.save(refreshed);
+        assertThat(refreshed.getId()).isNotEqualTo(token);
+        assertThat(repository(NOW.plus(Duration.ofMinutes(90)), KEY_1).findById(refreshed.getId())).isNotNull();
+
+        // 로그아웃
+        refreshed.removeAttribute("userId");
+        refreshed.removeAttribute("userName");
+        muchLater.save(refreshed);
+        assertThat(muchLater.findById(refreshed.getId()).<String>getAttribute("userId")).isNull();
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("서명 쿠키 - 서명 키가 없거나 너무 짧으면 기동 실패")
+    void constructor_invalidKeys_throws() {
+        assertThatThrownBy(() -> repository(NOW)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> repository(NOW, "k1:" + Base64.getEncoder().encodeToString(new byte[8])))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Order(6)
+    @Test
+    @DisplayName("서명 쿠키 - 세션 만료 여부는 저장소 시계 기준")
+    void isExpired_followsRepositoryClock() {
+        SignedCookieSessionRepository repository = repository(NOW, KEY_1);
+        SignedCookieSession created = repository.createSession();
+        assertThat(created.isExpired()).isFalse();
+
+        String token = login(repository);
+        assertThat(repository(NOW.plus(Duration.ofMinutes(10)), KEY_1).findById(token).isExpired()).isFalse();
+    }
+}